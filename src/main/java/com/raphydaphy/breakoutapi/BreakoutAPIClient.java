@@ -1,15 +1,23 @@
 package com.raphydaphy.breakoutapi;
 
 import com.raphydaphy.breakoutapi.breakout.AbstractBreakout;
+import com.raphydaphy.breakoutapi.breakout.BreakoutRegistry;
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutFrameGovernor;
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutPresenter;
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutRenderPass;
+import com.raphydaphy.breakoutapi.breakout.window.BreakoutWindowPool;
 import com.raphydaphy.breakoutapi.network.ClientModPackets;
 import net.fabricmc.api.ClientModInitializer;
 import net.minecraft.util.Identifier;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class BreakoutAPIClient implements ClientModInitializer {
-  private static Map<Identifier, AbstractBreakout> BREAKOUTS = new ConcurrentHashMap<>();
+  private static final BreakoutRegistry REGISTRY = new BreakoutRegistry();
+  private static final BreakoutPresenter PRESENTER = new BreakoutPresenter();
+  private static final BreakoutRenderPass RENDER_PASS = new BreakoutRenderPass();
+  private static final BreakoutWindowPool WINDOW_POOL = new BreakoutWindowPool();
+  private static final BreakoutFrameGovernor GOVERNOR = new BreakoutFrameGovernor();
 
   @Override
   public void onInitializeClient() {
@@ -21,25 +29,47 @@ public class BreakoutAPIClient implements ClientModInitializer {
   }
 
   public static void openBreakout(Identifier identifier, AbstractBreakout breakout) {
-    if (BREAKOUTS.containsKey(identifier)) {
+    if (!REGISTRY.open(identifier, breakout)) {
       BreakoutAPI.LOGGER.warn("Tried to open breakout '" + identifier + "' when it was already open!");
-      return;
     }
-
-    BREAKOUTS.put(identifier, breakout);
   }
 
+  /**
+   * Closes the breakout. Its window and GL resources are destroyed on the render thread before the next breakouts are drawn
+   */
   public static void closeBreakout(Identifier identifier) {
-    if (!BREAKOUTS.containsKey(identifier)) {
+    if (REGISTRY.close(identifier) == null) {
       BreakoutAPI.LOGGER.warn("Tried to close breakout '" + identifier + "' which was not initially open");
-      return;
     }
-
-    BREAKOUTS.get(identifier).destroy();
-    BREAKOUTS.remove(identifier);
   }
 
+  /**
+   * @return A read-only view of the open breakouts
+   */
   public static Map<Identifier, AbstractBreakout> getBreakouts() {
-    return BREAKOUTS;
+    return REGISTRY.getBreakouts();
+  }
+
+  public static BreakoutRegistry getRegistry() {
+    return REGISTRY;
+  }
+
+  public static BreakoutPresenter getPresenter() {
+    return PRESENTER;
+  }
+
+  public static BreakoutRenderPass getRenderPass() {
+    return RENDER_PASS;
+  }
+
+  /**
+   * The pool is disabled by default. Use {@link BreakoutWindowPool#setTargetSize(int)} to keep windows ready for breakouts which open often
+   */
+  public static BreakoutWindowPool getWindowPool() {
+    return WINDOW_POOL;
+  }
+
+  public static BreakoutFrameGovernor getGovernor() {
+    return GOVERNOR;
   }
 }
@@ -4,10 +4,16 @@ import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.raphydaphy.breakoutapi.BreakoutAPI;
 import com.raphydaphy.breakoutapi.BreakoutAPIClient;
+import com.raphydaphy.breakoutapi.breakout.render.BackgroundPolicy;
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutRenderPass;
+import com.raphydaphy.breakoutapi.breakout.render.FrameRateMeter;
+import com.raphydaphy.breakoutapi.breakout.render.RefreshRate;
+import com.raphydaphy.breakoutapi.breakout.render.ResizeStrategy;
 import com.raphydaphy.breakoutapi.breakout.window.BreakoutWindow;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gl.Framebuffer;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.opengl.GL30;
 import org.lwjgl.opengl.GL45;
@@ -15,51 +21,247 @@ import org.lwjgl.opengl.GL45;
 public abstract class AbstractBreakout {
   private Identifier identifier;
   protected BreakoutWindow window;
+  /**
+   * The intermediate framebuffer the breakout is drawn into, or null if the breakout renders directly to its window
+   */
+  @Nullable
   protected Framebuffer framebuffer;
   protected MinecraftClient client;
 
+  private RefreshRate refreshRate = RefreshRate.MATCH_GAME;
+  private final FrameRateMeter frameRateMeter = new FrameRateMeter();
+  private long nextRenderTime;
+  private long lastRenderTime;
+  private BackgroundPolicy hiddenPolicy = BackgroundPolicy.PAUSE;
+  private BackgroundPolicy unfocusedPolicy = BackgroundPolicy.CONTINUE;
+  private boolean renderRequested = true;
+  private ResizeStrategy resizeStrategy = ResizeStrategy.POOLED;
+  private long lastResizeTime;
+  /**
+   * Whether the framebuffer is over-allocated and still has to be reallocated to the exact window size
+   */
+  private boolean resizeSettling;
+  private int renderPriority;
+
   public AbstractBreakout(Identifier identifier, BreakoutWindow window) {
     this.identifier = identifier;
     this.window = window;
     this.client = MinecraftClient.getInstance();
 
-    this.framebuffer = new Framebuffer(this.window.getFramebufferWidth(), this.window.getFramebufferHeight(), true, MinecraftClient.IS_SYSTEM_MAC);
-    this.framebuffer.setClearColor(0.0F, 0.0F, 0.0F, 0.0F);
+    this.framebuffer = this.createFramebuffer();
 
     RenderSystem.setupDefaultState(0, 0, this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
 
     this.onResolutionChanged(this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
     this.window.keeper.getChainResolutionChangedCallback().add(this::onResolutionChanged);
+    this.window.keeper.getChainWindowIconifyCallback().add((handle, iconified) -> {
+      if (!iconified) this.requestRender();
+    });
   }
 
   public abstract void render();
   protected void postRender() {}
 
+  /**
+   * Called by the breakout render loop on every game frame, even when the breakout is not due to be drawn
+   */
+  public void update() {}
+
   public void setupRender() {
     if (this.window.shouldClose()) return;
 
-    GLFW.glfwMakeContextCurrent(this.window.getHandle());
+    BreakoutAPIClient.getRenderPass().makeCurrent(this.window.getHandle());
+    BreakoutAPIClient.getPresenter().applySwapInterval(this.window);
+
+    // Resizes are applied here rather than in the resize callback so that they don't need a context switch of their own
+    if (this.framebuffer != null) {
+      this.updateFramebufferSize(System.nanoTime());
+    }
 
     RenderSystem.pushMatrix();
-    RenderSystem.clear(GL30.GL_COLOR_BUFFER_BIT | GL30.GL_DEPTH_BUFFER_BIT, MinecraftClient.IS_SYSTEM_MAC);
 
-    this.framebuffer.beginWrite(true);
+    if (this.framebuffer == null) {
+      GlStateManager.bindFramebuffer(GL30.GL_FRAMEBUFFER, 0);
+      RenderSystem.viewport(0, 0, this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
+      RenderSystem.clear(GL30.GL_COLOR_BUFFER_BIT | GL30.GL_DEPTH_BUFFER_BIT, MinecraftClient.IS_SYSTEM_MAC);
 
-    RenderSystem.viewport(0, 0, this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
+      this.render();
 
-    this.render();
+      RenderSystem.popMatrix();
+    } else {
+      RenderSystem.clear(GL30.GL_COLOR_BUFFER_BIT | GL30.GL_DEPTH_BUFFER_BIT, MinecraftClient.IS_SYSTEM_MAC);
 
-    this.framebuffer.endWrite();
-    RenderSystem.popMatrix();
+      this.framebuffer.beginWrite(true);
 
-    RenderSystem.pushMatrix();
-    this.framebuffer.draw(this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
-    RenderSystem.popMatrix();
+      RenderSystem.viewport(0, 0, this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
+
+      this.render();
+
+      this.framebuffer.endWrite();
+      RenderSystem.popMatrix();
+
+      RenderSystem.pushMatrix();
+      this.framebuffer.draw(this.window.getFramebufferWidth(), this.window.getFramebufferHeight());
+      RenderSystem.popMatrix();
+    }
 
-    this.window.swapBuffers();
+    BreakoutAPIClient.getPresenter().present(this.window);
 
     this.postRender();
 
+    this.onFrameRendered(System.nanoTime());
+  }
+
+  private void updateFramebufferSize(long time) {
+    int width = this.window.getFramebufferWidth();
+    int height = this.window.getFramebufferHeight();
+
+    if (this.framebuffer.viewportWidth != width || this.framebuffer.viewportHeight != height) {
+      this.lastResizeTime = time;
+      // Breakouts which are not drawn continuously still need to be drawn once more to commit the exact size
+      this.resizeSettling = true;
+
+      if (width > this.framebuffer.textureWidth || height > this.framebuffer.textureHeight) {
+        this.framebuffer.resize(this.resizeStrategy.getCapacity(width), this.resizeStrategy.getCapacity(height), MinecraftClient.IS_SYSTEM_MAC);
+      }
+
+      // Only the top left corner of an over-allocated framebuffer is drawn into and sampled by Framebuffer.draw
+      this.framebuffer.viewportWidth = width;
+      this.framebuffer.viewportHeight = height;
+    } else if (this.framebuffer.textureWidth != width || this.framebuffer.textureHeight != height) {
+      if (time - this.lastResizeTime >= this.resizeStrategy.getSettleNanos()) {
+        this.framebuffer.resize(width, height, MinecraftClient.IS_SYSTEM_MAC);
+        this.resizeSettling = false;
+      }
+    } else {
+      this.resizeSettling = false;
+    }
+  }
+
+  /**
+   * @return Whether the framebuffer is over-allocated and the window has kept its size long enough to allocate the exact size
+   */
+  protected boolean isResizeSettleDue(long time) {
+    return this.resizeSettling && time - this.lastResizeTime >= this.resizeStrategy.getSettleNanos();
+  }
+
+  /**
+   * Used by the breakout render loop to decide whether this breakout should be drawn on the current game frame
+   *
+   * @param time The current time in nanoseconds, as returned by {@link System#nanoTime()}
+   */
+  public boolean isRenderDue(long time) {
+    if (this.isResizeSettleDue(time)) {
+      // Reallocating the framebuffer discards its contents, so the settle resize is drawn like any other requested frame
+      this.requestRender();
+    }
+    if (this.renderRequested) return true;
+
+    switch (this.refreshRate.getMode()) {
+      case FIXED:
+        return time >= this.nextRenderTime;
+      case ON_DEMAND:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Applies the hidden or unfocused background policy, depending on the current state of the window
+   *
+   * @param time The current time in nanoseconds, as returned by {@link System#nanoTime()}
+   */
+  public boolean isRenderAllowedInBackground(long time) {
+    if (this.isResizeSettleDue(time)) {
+      return true;
+    } else if (!this.window.isShown()) {
+      return this.hiddenPolicy.allowsRender(time, this.lastRenderTime);
+    } else if (!this.window.isFocused()) {
+      return this.unfocusedPolicy.allowsRender(time, this.lastRenderTime);
+    }
+    return true;
+  }
+
+  private void onFrameRendered(long time) {
+    this.renderRequested = false;
+    this.lastRenderTime = time;
+    this.frameRateMeter.onFrame(time);
+
+    long interval = this.refreshRate.getIntervalNanos();
+    long lateBy = time - this.nextRenderTime;
+    // Keep a steady cadence unless we fell more than a whole frame behind or rendered early because of a request
+    this.nextRenderTime = lateBy >= 0 && lateBy < interval ? this.nextRenderTime + interval : time + interval;
+  }
+
+  /**
+   * Makes sure the breakout is drawn on the next game frame, regardless of its refresh rate
+   */
+  public void requestRender() {
+    this.renderRequested = true;
+  }
+
+  public RefreshRate getRefreshRate() {
+    return this.refreshRate;
+  }
+
+  public void setRefreshRate(RefreshRate refreshRate) {
+    this.refreshRate = refreshRate;
+    this.nextRenderTime = 0;
+    this.requestRender();
+  }
+
+  public int getRenderPriority() {
+    return this.renderPriority;
+  }
+
+  /**
+   * Breakouts with a lower priority are drawn first. Breakouts with the same priority are drawn in the order they were opened
+   */
+  public void setRenderPriority(int renderPriority) {
+    this.renderPriority = renderPriority;
+    BreakoutAPIClient.getRegistry().reorder();
+  }
+
+  public ResizeStrategy getResizeStrategy() {
+    return this.resizeStrategy;
+  }
+
+  /**
+   * Sets how the intermediate framebuffer follows the window while it is being resized. Defaults to {@link ResizeStrategy#POOLED}
+   */
+  public void setResizeStrategy(ResizeStrategy resizeStrategy) {
+    this.resizeStrategy = resizeStrategy;
+  }
+
+  public BackgroundPolicy getHiddenPolicy() {
+    return this.hiddenPolicy;
+  }
+
+  /**
+   * Sets how the breakout is drawn while its window is minimized or hidden. Defaults to {@link BackgroundPolicy#PAUSE}
+   */
+  public void setHiddenPolicy(BackgroundPolicy hiddenPolicy) {
+    this.hiddenPolicy = hiddenPolicy;
+  }
+
+  public BackgroundPolicy getUnfocusedPolicy() {
+    return this.unfocusedPolicy;
+  }
+
+  /**
+   * Sets how the breakout is drawn while its window is shown but not focused. Defaults to {@link BackgroundPolicy#CONTINUE}
+   */
+  public void setUnfocusedPolicy(BackgroundPolicy unfocusedPolicy) {
+    this.unfocusedPolicy = unfocusedPolicy;
+  }
+
+  /**
+   * @return The number of times this breakout was actually drawn during the last second
+   */
+  public float getMeasuredFrameRate() {
+    this.frameRateMeter.update(System.nanoTime());
+    return this.frameRateMeter.getFrameRate();
   }
 
 
@@ -71,15 +273,50 @@ public abstract class AbstractBreakout {
   }
 
   public void destroy() {
-    framebuffer.delete();
+    BreakoutAPIClient.getPresenter().forget(this.window);
+    if (this.framebuffer != null) {
+      this.framebuffer.delete();
+    }
     GLFW.glfwDestroyWindow(this.window.getHandle());
   }
 
+  /**
+   * The framebuffer is resized the next time the breakout is drawn, while its context is already current
+   */
   public void onResolutionChanged(int width, int height) {
+    this.requestRender();
+  }
+
+  private Framebuffer createFramebuffer() {
+    Framebuffer framebuffer = new Framebuffer(this.window.getFramebufferWidth(), this.window.getFramebufferHeight(), true, MinecraftClient.IS_SYSTEM_MAC);
+    framebuffer.setClearColor(0.0F, 0.0F, 0.0F, 0.0F);
+    return framebuffer;
+  }
+
+  /**
+   * Chooses whether the breakout is drawn straight into the default framebuffer of its window, skipping the
+   * intermediate framebuffer and the full screen copy that follows it. Breakouts which sample their own output
+   * through {@link #framebuffer} should keep using the intermediate framebuffer, which is the default
+   */
+  public void setRenderDirectly(boolean renderDirectly) {
+    if (renderDirectly == this.isRenderingDirectly()) return;
+
+    BreakoutRenderPass pass = BreakoutAPIClient.getRenderPass();
     long existingContext = GLFW.glfwGetCurrentContext();
-    GLFW.glfwMakeContextCurrent(this.window.getHandle());
-    this.framebuffer.resize(width, height, MinecraftClient.IS_SYSTEM_MAC);
-    GLFW.glfwMakeContextCurrent(existingContext);
+    pass.makeCurrent(this.window.getHandle());
+    if (renderDirectly) {
+      this.framebuffer.delete();
+      this.framebuffer = null;
+    } else {
+      this.framebuffer = this.createFramebuffer();
+    }
+    pass.makeCurrent(existingContext);
+
+    this.requestRender();
+  }
+
+  public boolean isRenderingDirectly() {
+    return this.framebuffer == null;
   }
 
   public BreakoutWindow getWindow() {
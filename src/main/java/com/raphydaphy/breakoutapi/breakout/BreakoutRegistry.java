@@ -0,0 +1,134 @@
+package com.raphydaphy.breakoutapi.breakout;
+
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutRenderPass;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps track of open breakouts.
+ * Opening and closing are atomic and may happen from any thread, while the render loop reads an ordered array
+ * snapshot without locking. Closed breakouts are destroyed on the render thread when the destroy queue is drained.
+ */
+public class BreakoutRegistry {
+  private static final AbstractBreakout[] EMPTY = new AbstractBreakout[0];
+  private static final Comparator<AbstractBreakout> RENDER_ORDER = Comparator.comparingInt(AbstractBreakout::getRenderPriority);
+
+  private final Map<Identifier, AbstractBreakout> breakouts = new ConcurrentHashMap<>();
+  private final Map<Identifier, AbstractBreakout> breakoutsView = Collections.unmodifiableMap(this.breakouts);
+  private final List<AbstractBreakout> openOrder = new ArrayList<>();
+  private final Queue<AbstractBreakout> destroyQueue = new ConcurrentLinkedQueue<>();
+
+  private volatile AbstractBreakout[] snapshot = EMPTY;
+
+  /**
+   * @return Whether the breakout was opened, which is not the case if another breakout with the same identifier is already open
+   */
+  public synchronized boolean open(Identifier identifier, AbstractBreakout breakout) {
+    if (this.breakouts.putIfAbsent(identifier, breakout) != null) {
+      return false;
+    }
+
+    this.openOrder.add(breakout);
+    this.publish();
+    return true;
+  }
+
+  /**
+   * Removes the breakout from the registry and queues it to be destroyed on the render thread
+   *
+   * @return The breakout which was closed, or null if no breakout with the identifier was open
+   */
+  @Nullable
+  public synchronized AbstractBreakout close(Identifier identifier) {
+    AbstractBreakout breakout = this.breakouts.remove(identifier);
+    if (breakout == null) {
+      return null;
+    }
+
+    this.onClosed(breakout);
+    return breakout;
+  }
+
+  /**
+   * Same as {@link #close(Identifier)}, for when only the breakout instance is known
+   *
+   * @return Whether the breakout was open
+   */
+  public synchronized boolean close(AbstractBreakout breakout) {
+    if (!this.breakouts.values().remove(breakout)) {
+      return false;
+    }
+
+    this.onClosed(breakout);
+    return true;
+  }
+
+  private void onClosed(AbstractBreakout breakout) {
+    this.openOrder.remove(breakout);
+    this.publish();
+    this.destroyQueue.add(breakout);
+  }
+
+  /**
+   * Closes every open breakout, in render order
+   */
+  public synchronized void closeAll() {
+    for (AbstractBreakout breakout : this.snapshot) {
+      this.close(breakout);
+    }
+  }
+
+  /**
+   * Rebuilds the snapshot after the render priority of an open breakout changed
+   */
+  public synchronized void reorder() {
+    this.publish();
+  }
+
+  private void publish() {
+    AbstractBreakout[] snapshot = this.openOrder.toArray(EMPTY);
+    // The sort is stable, so breakouts with the same priority keep the order they were opened in
+    Arrays.sort(snapshot, RENDER_ORDER);
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * Destroys every closed breakout with its own context current. Should only be called on the render thread
+   * at a point where none of the breakouts are being drawn
+   */
+  public void drainDestroyQueue(BreakoutRenderPass pass) {
+    for (AbstractBreakout breakout = this.destroyQueue.poll(); breakout != null; breakout = this.destroyQueue.poll()) {
+      pass.destroy(breakout);
+    }
+  }
+
+  /**
+   * @return The open breakouts in render order. The array must not be modified
+   */
+  public AbstractBreakout[] getSnapshot() {
+    return this.snapshot;
+  }
+
+  @Nullable
+  public AbstractBreakout get(Identifier identifier) {
+    return this.breakouts.get(identifier);
+  }
+
+  public boolean isOpen(Identifier identifier) {
+    return this.breakouts.containsKey(identifier);
+  }
+
+  public Map<Identifier, AbstractBreakout> getBreakouts() {
+    return this.breakoutsView;
+  }
+}
@@ -2,13 +2,16 @@ package com.raphydaphy.breakoutapi.breakout;
 
 import com.raphydaphy.breakoutapi.breakout.window.BreakoutWindow;
 import net.minecraft.util.Identifier;
+import org.liquidengine.legui.animation.Animator;
+import org.liquidengine.legui.animation.AnimatorImpl;
 import org.liquidengine.legui.animation.AnimatorProvider;
 import org.liquidengine.legui.component.Frame;
+import org.liquidengine.legui.listener.processor.EventProcessor;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
+import org.liquidengine.legui.system.FrameRuntime;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.handler.processor.SystemEventProcessor;
 import org.liquidengine.legui.system.handler.processor.SystemEventProcessorImpl;
-import org.liquidengine.legui.system.layout.LayoutManager;
 import org.liquidengine.legui.system.renderer.nvg.NvgRenderer;
 
 public abstract class GUIBreakout extends AbstractBreakout {
@@ -18,6 +21,8 @@ public abstract class GUIBreakout extends AbstractBreakout {
   protected SystemEventProcessor systemEventProcessor;
   private NvgRenderer renderer;
 
+  private boolean renderOnlyWhenDirty;
+
   public GUIBreakout(Identifier identifier, BreakoutWindow window) {
     super(identifier, window);
 
@@ -53,19 +58,78 @@ public abstract class GUIBreakout extends AbstractBreakout {
     return this.renderer;
   }
 
+  /**
+   * When enabled, the breakout is only drawn when something in the frame changed since the last draw.
+   * Component setters, system events, UI events and non-passive animations all mark the frame as invalid.
+   * Changes made directly to styles or text states should be followed by a call to {@link #requestRender()}
+   */
+  public void setRenderOnlyWhenDirty(boolean renderOnlyWhenDirty) {
+    this.renderOnlyWhenDirty = renderOnlyWhenDirty;
+    this.frame.invalidate();
+  }
+
+  public boolean isRenderOnlyWhenDirty() {
+    return this.renderOnlyWhenDirty;
+  }
+
+  @Override
+  public void requestRender() {
+    super.requestRender();
+    if (this.frame != null) {
+      this.frame.invalidate();
+    }
+  }
+
+  @Override
+  public boolean isRenderDue(long time) {
+    if (this.renderOnlyWhenDirty && !this.frame.isInvalid() && !this.isResizeSettleDue(time)) return false;
+    return super.isRenderDue(time);
+  }
+
+  @Override
+  public void setupRender() {
+    if (this.renderOnlyWhenDirty && !this.frame.isInvalid()) return;
+
+    // Validate before drawing so that changes made by layout or rendering trigger another pass
+    this.frame.validate();
+    super.setupRender();
+  }
+
   @Override
   public void render() {
     this.context.updateGlfwWindow();
-    LayoutManager.getInstance().layout(this.frame);
+    this.frame.getRuntime().getLayoutManager().layout(this.frame);
     this.renderer.render(this.getFrame(), this.getContext());
   }
 
-  @Override
-  public void postRender() {
+  /**
+   * Runs the animations and UI events which don't belong to the frame of any breakout, such as those of components which
+   * haven't been added to a frame yet. Called once per frame before the breakouts are updated
+   */
+  public static void updateShared() {
     AnimatorProvider.getAnimator().runAnimations();
+    EventProcessorProvider.getInstance().processEvents();
+  }
+
+  @Override
+  public void update() {
+    FrameRuntime runtime = this.frame.getRuntime();
+    Animator animator = runtime.getAnimator();
+    EventProcessor eventProcessor = runtime.getEventProcessor();
+
+    Animator shared = AnimatorProvider.getAnimator();
+    if (shared instanceof AnimatorImpl) {
+      ((AnimatorImpl) shared).transferAnimations(this.frame, animator);
+    }
+
+    if (this.systemEventProcessor.hasEvents() || eventProcessor.hasEvents() || animator.hasActiveAnimations()) {
+      this.frame.invalidate();
+    }
+
+    animator.runAnimations();
 
     this.processSystemEvents();
-    EventProcessorProvider.getInstance().processEvents();
+    eventProcessor.processEvents();
     this.frame.getContainer().updateRecursively(this.context, this.frame);
   }
 
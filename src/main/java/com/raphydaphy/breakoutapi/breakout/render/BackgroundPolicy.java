@@ -0,0 +1,71 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+/**
+ * Describes how a breakout should be drawn while its window is in the background, for example when it is minimized or unfocused
+ */
+public final class BackgroundPolicy {
+  /**
+   * Stop drawing the breakout until the window returns to the foreground
+   */
+  public static final BackgroundPolicy PAUSE = new BackgroundPolicy(Mode.PAUSE, 0);
+
+  /**
+   * Keep drawing the breakout at its normal refresh rate, for example when its output is being captured
+   */
+  public static final BackgroundPolicy CONTINUE = new BackgroundPolicy(Mode.CONTINUE, 0);
+
+  private final Mode mode;
+  private final double hz;
+  private final long intervalNanos;
+
+  private BackgroundPolicy(Mode mode, double hz) {
+    this.mode = mode;
+    this.hz = hz;
+    this.intervalNanos = hz > 0 ? (long) (1_000_000_000L / hz) : 0L;
+  }
+
+  /**
+   * Creates a policy which draws the breakout at most a fixed number of times per second while in the background
+   *
+   * @param hz The maximum number of frames per second
+   */
+  public static BackgroundPolicy throttle(double hz) {
+    if (hz <= 0) {
+      throw new IllegalArgumentException("Background refresh rate must be positive, got " + hz);
+    }
+    return new BackgroundPolicy(Mode.THROTTLE, hz);
+  }
+
+  /**
+   * @param time The current time in nanoseconds
+   * @param lastRenderTime The time at which the breakout was last drawn
+   * @return Whether this policy allows the breakout to be drawn now
+   */
+  public boolean allowsRender(long time, long lastRenderTime) {
+    switch (this.mode) {
+      case PAUSE:
+        return false;
+      case THROTTLE:
+        return time - lastRenderTime >= this.intervalNanos;
+      default:
+        return true;
+    }
+  }
+
+  public Mode getMode() {
+    return this.mode;
+  }
+
+  public double getHz() {
+    return this.hz;
+  }
+
+  @Override
+  public String toString() {
+    return this.mode == Mode.THROTTLE ? "THROTTLE(" + this.hz + " Hz)" : this.mode.name();
+  }
+
+  public enum Mode {
+    PAUSE, THROTTLE, CONTINUE
+  }
+}
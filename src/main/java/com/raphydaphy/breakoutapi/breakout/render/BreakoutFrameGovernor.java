@@ -0,0 +1,110 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+import com.raphydaphy.breakoutapi.BreakoutAPI;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.profiler.Profiler;
+
+/**
+ * Keeps the time spent on breakouts within a share of the main game's frame budget.
+ * When the breakout loop runs over budget for a while, the number of breakouts drawn per frame is lowered and
+ * due breakouts are drawn round-robin, which lowers their effective refresh rate. The limit is raised again once
+ * the loop has had enough headroom for a while.
+ */
+public class BreakoutFrameGovernor {
+  private static final int UNLIMITED = Integer.MAX_VALUE;
+  private static final double FALLBACK_FRAME_RATE = 60;
+  // The highest value of the frame rate limit slider, which means the frame rate is unlimited
+  private static final int UNLIMITED_FRAME_RATE = 260;
+  private static final double SMOOTHING = 0.1;
+  private static final double RECOVERY_SHARE = 0.5;
+  private static final int THROTTLE_FRAMES = 10;
+  private static final int RECOVERY_FRAMES = 60;
+
+  private boolean enabled = true;
+  private double budgetShare = 0.25;
+
+  private double averageNanos;
+  private int renderLimit = UNLIMITED;
+  private int overBudgetFrames;
+  private int underBudgetFrames;
+
+  /**
+   * @return The maximum number of breakouts which may be drawn on the current frame
+   */
+  public int getRenderLimit() {
+    return this.enabled ? this.renderLimit : UNLIMITED;
+  }
+
+  /**
+   * Records the time spent on the breakout loop during the last frame and adjusts the render limit
+   *
+   * @param nanos The time spent updating, drawing and presenting breakouts
+   * @param openBreakouts The number of open breakouts
+   */
+  public void record(long nanos, int openBreakouts, Profiler profiler) {
+    this.averageNanos = this.averageNanos == 0 ? nanos : this.averageNanos + (nanos - this.averageNanos) * SMOOTHING;
+    if (!this.enabled) return;
+
+    double budget = this.getBudgetNanos();
+
+    if (this.averageNanos > budget) {
+      this.underBudgetFrames = 0;
+
+      if (++this.overBudgetFrames >= THROTTLE_FRAMES && Math.min(this.renderLimit, openBreakouts) > 1) {
+        this.overBudgetFrames = 0;
+        this.renderLimit = Math.min(this.renderLimit, openBreakouts) - 1;
+
+        profiler.visit("governor throttle");
+        BreakoutAPI.LOGGER.debug("Breakouts took " + this.getAverageMillis() + "ms per frame, limiting to " + this.renderLimit + " breakouts per frame");
+      }
+    } else if (this.averageNanos < budget * RECOVERY_SHARE) {
+      this.overBudgetFrames = 0;
+
+      if (this.renderLimit != UNLIMITED && ++this.underBudgetFrames >= RECOVERY_FRAMES) {
+        this.underBudgetFrames = 0;
+        this.renderLimit = this.renderLimit + 1 >= openBreakouts ? UNLIMITED : this.renderLimit + 1;
+
+        profiler.visit("governor recover");
+        BreakoutAPI.LOGGER.debug("Breakouts took " + this.getAverageMillis() + "ms per frame, raising the limit to " + (this.renderLimit == UNLIMITED ? "unlimited" : this.renderLimit + " breakouts per frame"));
+      }
+    } else {
+      this.overBudgetFrames = 0;
+      this.underBudgetFrames = 0;
+    }
+  }
+
+  /**
+   * @return The time breakouts may take each frame, based on the frame rate limit of the game
+   */
+  public double getBudgetNanos() {
+    int limit = MinecraftClient.getInstance().getWindow().getFramerateLimit();
+    double frameRate = limit > 0 && limit < UNLIMITED_FRAME_RATE ? limit : FALLBACK_FRAME_RATE;
+    return this.budgetShare * 1_000_000_000L / frameRate;
+  }
+
+  public float getAverageMillis() {
+    return (float) (this.averageNanos / 1_000_000L);
+  }
+
+  public double getBudgetShare() {
+    return this.budgetShare;
+  }
+
+  /**
+   * Sets the share of the game's frame time that breakouts may use, between 0 and 1. Defaults to 0.25
+   */
+  public void setBudgetShare(double budgetShare) {
+    this.budgetShare = budgetShare;
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      this.renderLimit = UNLIMITED;
+    }
+  }
+}
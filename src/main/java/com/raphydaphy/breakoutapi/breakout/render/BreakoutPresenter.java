@@ -0,0 +1,96 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+import com.raphydaphy.breakoutapi.breakout.window.BreakoutWindow;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinates how breakout windows present their frames.
+ * Events are polled once per frame by the main game window, breakout windows are swapped back to back
+ * after all of them have been drawn, and at most one window waits for vsync.
+ * <p>
+ * Breakouts are presented after the game window has already swapped its buffers for the frame, so a breakout
+ * waiting for vsync while the game does as well would wait for a second vblank and halve the frame rate.
+ * The vsync window therefore only waits when the game window doesn't.
+ */
+public class BreakoutPresenter {
+  private final List<BreakoutWindow> pending = new ArrayList<>();
+
+  @Nullable
+  private BreakoutWindow vsyncWindow;
+
+  /**
+   * Queues the window to be swapped at the end of the breakout render loop
+   */
+  public void present(BreakoutWindow window) {
+    if (!this.pending.contains(window)) {
+      this.pending.add(window);
+    }
+  }
+
+  /**
+   * Swaps every window that was presented since the last flush. The vsync window is swapped last so that the others don't wait behind it.
+   * Each window is made current before it is swapped, as some platforms (such as EGL) only swap the buffers of the current context
+   *
+   * @param pass The render pass used to switch contexts
+   * @param mainContext The context which is made current again once all windows are swapped
+   */
+  public void flush(BreakoutRenderPass pass, long mainContext) {
+    if (this.pending.isEmpty()) return;
+
+    BreakoutWindow blocking = null;
+
+    for (int i = 0; i < this.pending.size(); i++) {
+      BreakoutWindow window = this.pending.get(i);
+      if (window == this.vsyncWindow) {
+        blocking = window;
+      } else {
+        pass.makeCurrent(window.getHandle());
+        window.swapBuffers();
+      }
+    }
+
+    if (blocking != null) {
+      pass.makeCurrent(blocking.getHandle());
+      blocking.swapBuffers();
+    }
+
+    this.pending.clear();
+    pass.makeCurrent(mainContext);
+  }
+
+  /**
+   * Should be called with the context of the window current, before it is drawn
+   */
+  public void applySwapInterval(BreakoutWindow window) {
+    boolean vsync = window == this.vsyncWindow && !MinecraftClient.getInstance().options.enableVsync;
+    window.setSwapInterval(vsync ? 1 : 0);
+  }
+
+  /**
+   * Removes the window from the presentation queue, for example when it is about to be destroyed
+   */
+  public void forget(BreakoutWindow window) {
+    this.pending.remove(window);
+    if (this.vsyncWindow == window) {
+      this.vsyncWindow = null;
+    }
+  }
+
+  @Nullable
+  public BreakoutWindow getVsyncWindow() {
+    return this.vsyncWindow;
+  }
+
+  /**
+   * Chooses the breakout window which waits for vsync when the game window doesn't, which also limits the game to the refresh rate.
+   * When vsync is enabled in the game options the game window already waits once per frame, and the vsync window swaps without waiting.
+   * If set to null, breakouts never block on their swaps
+   */
+  public void setVsyncWindow(@Nullable BreakoutWindow vsyncWindow) {
+    this.vsyncWindow = vsyncWindow;
+  }
+}
@@ -0,0 +1,151 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+import com.raphydaphy.breakoutapi.breakout.AbstractBreakout;
+import net.fabricmc.loader.api.FabricLoader;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Draws all breakouts which are due on the current frame, making each breakout context current exactly once
+ * and switching back to the main game context only at the end of the pass
+ */
+public class BreakoutRenderPass {
+  /**
+   * Marks the current context as unknown, so that the next switch is never skipped
+   */
+  private static final long UNKNOWN_CONTEXT = -1L;
+
+  private final List<AbstractBreakout> queue = new ArrayList<>();
+  private int[] queueOrder = new int[16];
+  private int roundRobinCursor;
+
+  private boolean active;
+  private long mainContext;
+  private long currentContext;
+
+  private int contextSwitches;
+  private int lastContextSwitches;
+
+  private boolean errorChecking = FabricLoader.getInstance().isDevelopmentEnvironment();
+
+  public void begin(long mainContext) {
+    this.active = true;
+    this.mainContext = mainContext;
+    this.currentContext = GLFW.glfwGetCurrentContext();
+    this.contextSwitches = 0;
+
+    this.checkError("before rendering breakouts");
+  }
+
+  /**
+   * Queues the breakout to be drawn when the pass ends. Breakouts must be scheduled in registry order
+   *
+   * @param order The index of the breakout in the registry snapshot, used to resume the round-robin on the next frame
+   */
+  public void schedule(AbstractBreakout breakout, int order) {
+    int index = this.queue.size();
+    if (index == this.queueOrder.length) {
+      this.queueOrder = Arrays.copyOf(this.queueOrder, index * 2);
+    }
+
+    this.queue.add(breakout);
+    this.queueOrder[index] = order;
+  }
+
+  public void end() {
+    this.end(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Draws the queued breakouts. If more breakouts are queued than the limit allows, they are drawn round-robin
+   * in registry order, starting after the last breakout drawn on the previous limited frame. The rotation is kept
+   * by registry order rather than by queue position, as the set of queued breakouts changes from frame to frame
+   *
+   * @param renderLimit The maximum number of breakouts to draw
+   */
+  public void end(int renderLimit) {
+    int count = this.queue.size();
+    int renders = Math.min(count, renderLimit);
+    int start = 0;
+
+    if (renders < count) {
+      while (start < count && this.queueOrder[start] < this.roundRobinCursor) {
+        start++;
+      }
+      if (start == count) {
+        start = 0;
+      }
+    }
+
+    for (int i = 0; i < renders; i++) {
+      this.queue.get((start + i) % count).setupRender();
+    }
+
+    if (renders < count) {
+      this.roundRobinCursor = this.queueOrder[(start + renders - 1) % count] + 1;
+    }
+    this.queue.clear();
+
+    this.checkError("after rendering breakouts");
+    this.makeCurrent(this.mainContext);
+
+    this.active = false;
+    this.lastContextSwitches = this.contextSwitches;
+  }
+
+  /**
+   * Makes the context current, skipping the switch if it already is. Outside of a pass the context is always switched
+   */
+  public void makeCurrent(long context) {
+    if (this.active && this.currentContext == context) return;
+
+    GLFW.glfwMakeContextCurrent(context);
+    this.currentContext = context;
+    this.contextSwitches++;
+  }
+
+  /**
+   * Forgets which context is current. Must be called by code which makes a context current without going through
+   * {@link #makeCurrent(long)}, as the pass would otherwise skip a switch it still needs
+   */
+  public void invalidateCurrentContext() {
+    this.currentContext = UNKNOWN_CONTEXT;
+  }
+
+  /**
+   * Destroys the breakout with its own context current, so that its framebuffer and other per-context objects are released from the right context
+   */
+  public void destroy(AbstractBreakout breakout) {
+    this.makeCurrent(breakout.getWindow().getHandle());
+    breakout.destroy();
+    // GLFW detaches the context of a window when the window is destroyed
+    this.currentContext = 0L;
+  }
+
+  private void checkError(String stage) {
+    if (this.errorChecking) {
+      AbstractBreakout.checkError(stage);
+    }
+  }
+
+  /**
+   * @return The number of times the current context was changed during the last complete pass
+   */
+  public int getContextSwitches() {
+    return this.lastContextSwitches;
+  }
+
+  public boolean isErrorChecking() {
+    return this.errorChecking;
+  }
+
+  /**
+   * Enables calling glGetError before and after each pass. This forces the driver to synchronize, so it is only enabled in development environments by default
+   */
+  public void setErrorChecking(boolean errorChecking) {
+    this.errorChecking = errorChecking;
+  }
+}
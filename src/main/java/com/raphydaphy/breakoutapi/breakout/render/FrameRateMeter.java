@@ -0,0 +1,43 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+/**
+ * Counts rendered frames and reports the measured rate once per second
+ */
+public class FrameRateMeter {
+  private static final long SAMPLE_PERIOD = 1_000_000_000L;
+
+  private long sampleStart = -1;
+  private int framesThisSample;
+  private float frameRate;
+
+  public void onFrame(long time) {
+    if (this.sampleStart < 0) {
+      this.sampleStart = time;
+    }
+
+    this.framesThisSample++;
+    this.update(time);
+  }
+
+  /**
+   * Closes the current sample if it has lasted at least a second.
+   * Should also be called when no frame was rendered so that an idle breakout decays to zero
+   */
+  public void update(long time) {
+    if (this.sampleStart < 0) return;
+
+    long elapsed = time - this.sampleStart;
+    if (elapsed >= SAMPLE_PERIOD) {
+      this.frameRate = this.framesThisSample * (float) SAMPLE_PERIOD / elapsed;
+      this.framesThisSample = 0;
+      this.sampleStart = time;
+    }
+  }
+
+  /**
+   * @return The number of frames rendered during the last complete one second sample
+   */
+  public float getFrameRate() {
+    return this.frameRate;
+  }
+}
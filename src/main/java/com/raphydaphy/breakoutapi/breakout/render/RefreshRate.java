@@ -0,0 +1,60 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+/**
+ * Describes how often a breakout wants to be redrawn by the breakout render loop
+ */
+public final class RefreshRate {
+  /**
+   * Redraw on every frame rendered by the main game window
+   */
+  public static final RefreshRate MATCH_GAME = new RefreshRate(Mode.MATCH_GAME, 0);
+
+  /**
+   * Only redraw when {@link com.raphydaphy.breakoutapi.breakout.AbstractBreakout#requestRender()} has been called
+   */
+  public static final RefreshRate ON_DEMAND = new RefreshRate(Mode.ON_DEMAND, 0);
+
+  private final Mode mode;
+  private final double hz;
+  private final long intervalNanos;
+
+  private RefreshRate(Mode mode, double hz) {
+    this.mode = mode;
+    this.hz = hz;
+    this.intervalNanos = hz > 0 ? (long) (1_000_000_000L / hz) : 0L;
+  }
+
+  /**
+   * Creates a refresh rate which redraws the breakout at most a fixed number of times per second.
+   * The breakout will never be drawn more often than the main game, so rates above the game frame rate behave like {@link #MATCH_GAME}
+   *
+   * @param hz The target number of frames per second
+   */
+  public static RefreshRate fixed(double hz) {
+    if (hz <= 0) {
+      throw new IllegalArgumentException("Refresh rate must be positive, got " + hz);
+    }
+    return new RefreshRate(Mode.FIXED, hz);
+  }
+
+  public Mode getMode() {
+    return this.mode;
+  }
+
+  public double getHz() {
+    return this.hz;
+  }
+
+  public long getIntervalNanos() {
+    return this.intervalNanos;
+  }
+
+  @Override
+  public String toString() {
+    return this.mode == Mode.FIXED ? this.hz + " Hz" : this.mode.name();
+  }
+
+  public enum Mode {
+    FIXED, MATCH_GAME, ON_DEMAND
+  }
+}
@@ -0,0 +1,53 @@
+package com.raphydaphy.breakoutapi.breakout.render;
+
+/**
+ * Describes how the intermediate framebuffer of a breakout follows the size of its window.
+ * While the window is being resized the framebuffer is over-allocated to a multiple of the bucket size and
+ * the breakout is drawn into a sub-viewport of it. The exact size is only allocated once the window has kept
+ * the same size for the settle time.
+ */
+public final class ResizeStrategy {
+  /**
+   * Reallocates the framebuffer as soon as the window changes size
+   */
+  public static final ResizeStrategy IMMEDIATE = new ResizeStrategy(1, 0);
+
+  /**
+   * Grows the framebuffer in steps of 256 pixels and commits the exact size after a quarter of a second
+   */
+  public static final ResizeStrategy POOLED = pooled(256, 250);
+
+  private final int bucketSize;
+  private final long settleNanos;
+
+  private ResizeStrategy(int bucketSize, long settleNanos) {
+    this.bucketSize = bucketSize;
+    this.settleNanos = settleNanos;
+  }
+
+  /**
+   * @param bucketSize The number of pixels the framebuffer capacity grows by in each dimension
+   * @param settleMillis How long the window size must stay the same before the exact size is allocated
+   */
+  public static ResizeStrategy pooled(int bucketSize, long settleMillis) {
+    if (bucketSize <= 0) {
+      throw new IllegalArgumentException("Bucket size must be positive, got " + bucketSize);
+    }
+    return new ResizeStrategy(bucketSize, settleMillis * 1_000_000L);
+  }
+
+  /**
+   * @return The size to allocate so that the given size fits in the framebuffer
+   */
+  public int getCapacity(int size) {
+    return (size + this.bucketSize - 1) / this.bucketSize * this.bucketSize;
+  }
+
+  public int getBucketSize() {
+    return this.bucketSize;
+  }
+
+  public long getSettleNanos() {
+    return this.settleNanos;
+  }
+}
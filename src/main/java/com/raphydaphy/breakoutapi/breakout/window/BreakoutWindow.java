@@ -2,6 +2,7 @@ package com.raphydaphy.breakoutapi.breakout.window;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.raphydaphy.breakoutapi.BreakoutAPI;
+import com.raphydaphy.breakoutapi.BreakoutAPIClient;
 import com.raphydaphy.breakoutapi.breakout.window.callback.BreakoutWindowCallbackKeeper;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.texture.TextureUtil;
@@ -36,6 +37,11 @@ public class BreakoutWindow {
   private int framebufferWidth;
   private int framebufferHeight;
 
+  private boolean iconified;
+  private boolean focused;
+  private boolean visible;
+  private int swapInterval = -1;
+
   public final BreakoutWindowCallbackKeeper keeper;
 
   /***
@@ -60,11 +66,23 @@ public class BreakoutWindow {
     this.height = height;
 
     long sharedContext = this.client.getWindow().getHandle();
-    
-    // This is to release the current context, as per the documentation.
-    GLFW.glfwMakeContextCurrent(NULL);
-    this.handle = GLFW.glfwCreateWindow(this.width, this.height, title, monitor == null ? 0L : monitor.getHandle(), sharedContext);
-    
+    long pooled = monitor == null ? BreakoutAPIClient.getWindowPool().acquire() : NULL;
+
+    if (pooled != NULL) {
+      // Pre-created windows already share the main context, so they only need to be configured and shown
+      this.handle = pooled;
+      GLFW.glfwSetWindowTitle(this.handle, title);
+      GLFW.glfwSetWindowSize(this.handle, this.width, this.height);
+      GLFW.glfwShowWindow(this.handle);
+    } else {
+      // This is to release the current context, as per the documentation.
+      GLFW.glfwMakeContextCurrent(NULL);
+      this.handle = GLFW.glfwCreateWindow(this.width, this.height, title, monitor == null ? 0L : monitor.getHandle(), sharedContext);
+    }
+
+    // Breakouts may be opened while the render pass is active, so it should not trust the context it made current
+    BreakoutAPIClient.getRenderPass().invalidateCurrentContext();
+
     if (this.handle == NULL) {
       // Just to be nice
       GLFW.glfwMakeContextCurrent(sharedContext);
@@ -83,12 +101,18 @@ public class BreakoutWindow {
     GLFW.glfwMakeContextCurrent(this.handle);
     this.updateFramebufferSize();
 
+    this.iconified = GLFW.glfwGetWindowAttrib(this.handle, GLFW.GLFW_ICONIFIED) == GLFW.GLFW_TRUE;
+    this.focused = GLFW.glfwGetWindowAttrib(this.handle, GLFW.GLFW_FOCUSED) == GLFW.GLFW_TRUE;
+    this.visible = GLFW.glfwGetWindowAttrib(this.handle, GLFW.GLFW_VISIBLE) == GLFW.GLFW_TRUE;
+
     this.keeper = new BreakoutWindowCallbackKeeper();
     CallbackKeeper.registerCallbacks(this.getHandle(), this.keeper);
 
     this.keeper.getChainFramebufferSizeCallback().add(this::onFramebufferSizeChanged);
     this.keeper.getChainWindowSizeCallback().add(this::onWindowSizeChanged);
     this.keeper.getChainWindowPosCallback().add(this::onWindowPosChanged);
+    this.keeper.getChainWindowIconifyCallback().add(this::onWindowIconifyChanged);
+    this.keeper.getChainWindowFocusCallback().add(this::onWindowFocusChanged);
   }
 
   public void setPos(int x, int y) {
@@ -116,6 +140,16 @@ public class BreakoutWindow {
     GLFW.glfwSetWindowSize(this.handle, width, height);
   }
 
+  public void show() {
+    GLFW.glfwShowWindow(this.handle);
+    this.visible = true;
+  }
+
+  public void hide() {
+    GLFW.glfwHideWindow(this.handle);
+    this.visible = false;
+  }
+
   private void onWindowPosChanged(long window, int x, int y) {
     if (window == this.handle){
       this.x = x;
@@ -130,6 +164,18 @@ public class BreakoutWindow {
     }
   }
 
+  private void onWindowIconifyChanged(long window, boolean iconified) {
+    if (window == this.handle) {
+      this.iconified = iconified;
+    }
+  }
+
+  private void onWindowFocusChanged(long window, boolean focused) {
+    if (window == this.handle) {
+      this.focused = focused;
+    }
+  }
+
   private void onFramebufferSizeChanged(long window, int width, int height) {
     if (window == this.handle) {
       int oldWidth = this.getFramebufferWidth();
@@ -152,8 +198,25 @@ public class BreakoutWindow {
     this.framebufferHeight = framebufferHeight[0];
   }
 
+  /**
+   * Swaps the buffers without polling events, which is already done once per frame by the main game window
+   */
   public void swapBuffers() {
-    RenderSystem.flipFrame(this.handle);
+    GLFW.glfwSwapBuffers(this.handle);
+  }
+
+  /**
+   * Sets the swap interval of this window. The context of this window must be current
+   */
+  public void setSwapInterval(int swapInterval) {
+    if (this.swapInterval != swapInterval) {
+      GLFW.glfwSwapInterval(swapInterval);
+      this.swapInterval = swapInterval;
+    }
+  }
+
+  public int getSwapInterval() {
+    return this.swapInterval;
   }
 
   public void setIcon(Identifier icon16, Identifier icon32) {
@@ -277,6 +340,27 @@ public class BreakoutWindow {
     return this.framebufferHeight;
   }
 
+  public boolean isIconified() {
+    return this.iconified;
+  }
+
+  public boolean isFocused() {
+    return this.focused;
+  }
+
+  public boolean isVisible() {
+    return this.visible;
+  }
+
+  /**
+   * GLFW can't tell whether a window is covered by other windows, so only minimized and hidden windows count as not being shown
+   *
+   * @return Whether the window is currently shown on screen
+   */
+  public boolean isShown() {
+    return this.visible && !this.iconified;
+  }
+
   public boolean shouldClose() {
     return GLFW.glfwWindowShouldClose(handle);
   }
@@ -0,0 +1,134 @@
+package com.raphydaphy.breakoutapi.breakout.window;
+
+import com.raphydaphy.breakoutapi.BreakoutAPI;
+import com.raphydaphy.breakoutapi.BreakoutAPIClient;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.Arrays;
+
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+/**
+ * Keeps a number of hidden GLFW windows sharing the main game context, so that opening a breakout doesn't
+ * need to wait for glfwCreateWindow. The pool is empty unless a target size is set.
+ */
+public class BreakoutWindowPool {
+  private static final int INITIAL_WIDTH = 640;
+  private static final int INITIAL_HEIGHT = 480;
+  private static final int DEFAULT_FILL_INTERVAL = 60;
+
+  private long[] windows = new long[0];
+  private int count;
+  private int targetSize;
+  private int fillInterval = DEFAULT_FILL_INTERVAL;
+  private int framesUntilFill;
+
+  private int hits;
+  private int misses;
+
+  /**
+   * Called once per game frame. Creates one hidden window if the pool is below its target size and no window was
+   * created during the last {@link #getFillInterval()} frames, so that window creation never stalls consecutive frames.
+   * Must be called on the render thread, and leaves the main game context current
+   */
+  public void fill(long mainContext) {
+    if (this.count >= this.targetSize) return;
+    if (this.framesUntilFill > 0) {
+      this.framesUntilFill--;
+      return;
+    }
+    this.framesUntilFill = this.fillInterval - 1;
+
+    GLFW.glfwMakeContextCurrent(NULL);
+    GLFW.glfwWindowHint(GLFW.GLFW_VISIBLE, GLFW.GLFW_FALSE);
+    long handle = GLFW.glfwCreateWindow(INITIAL_WIDTH, INITIAL_HEIGHT, "", NULL, mainContext);
+    GLFW.glfwWindowHint(GLFW.GLFW_VISIBLE, GLFW.GLFW_TRUE);
+    GLFW.glfwMakeContextCurrent(mainContext);
+    BreakoutAPIClient.getRenderPass().invalidateCurrentContext();
+
+    if (handle == NULL) {
+      BreakoutAPI.LOGGER.warn("Failed to pre-create breakout window, shrinking the window pool to " + this.count);
+      this.targetSize = this.count;
+      return;
+    }
+
+    if (this.count == this.windows.length) {
+      this.windows = Arrays.copyOf(this.windows, Math.max(4, this.count * 2));
+    }
+    this.windows[this.count++] = handle;
+  }
+
+  /**
+   * @return A hidden window with a context shared with the main game, or NULL if the pool is empty
+   */
+  public long acquire() {
+    if (this.count == 0) {
+      if (this.targetSize > 0) {
+        this.misses++;
+      }
+      return NULL;
+    }
+
+    this.hits++;
+    long handle = this.windows[--this.count];
+    this.windows[this.count] = NULL;
+    return handle;
+  }
+
+  /**
+   * Sets how many hidden windows the pool keeps ready. Windows above the new size are destroyed straight away
+   */
+  public void setTargetSize(int targetSize) {
+    this.targetSize = Math.max(0, targetSize);
+    this.shrink(this.targetSize);
+  }
+
+  /**
+   * Destroys every pooled window. Called when the game shuts down, and leaves the target size unchanged
+   */
+  public void destroyAll() {
+    this.shrink(0);
+  }
+
+  private void shrink(int size) {
+    while (this.count > size) {
+      long handle = this.windows[--this.count];
+      this.windows[this.count] = NULL;
+      GLFW.glfwDestroyWindow(handle);
+    }
+  }
+
+  public int getTargetSize() {
+    return this.targetSize;
+  }
+
+  public int getFillInterval() {
+    return this.fillInterval;
+  }
+
+  /**
+   * Sets how many game frames pass between two pooled windows being created. Defaults to 60
+   */
+  public void setFillInterval(int fillInterval) {
+    this.fillInterval = Math.max(1, fillInterval);
+    this.framesUntilFill = Math.min(this.framesUntilFill, this.fillInterval - 1);
+  }
+
+  public int getSize() {
+    return this.count;
+  }
+
+  /**
+   * @return The number of breakout windows which were taken from the pool
+   */
+  public int getHits() {
+    return this.hits;
+  }
+
+  /**
+   * @return The number of breakout windows which had to be created because the pool was empty
+   */
+  public int getMisses() {
+    return this.misses;
+  }
+}
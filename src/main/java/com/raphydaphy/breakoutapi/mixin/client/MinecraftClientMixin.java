@@ -3,10 +3,13 @@ package com.raphydaphy.breakoutapi.mixin.client;
 import com.raphydaphy.breakoutapi.BreakoutAPI;
 import com.raphydaphy.breakoutapi.BreakoutAPIClient;
 import com.raphydaphy.breakoutapi.breakout.AbstractBreakout;
-import com.raphydaphy.breakoutapi.breakout.Breakout;
+import com.raphydaphy.breakoutapi.breakout.BreakoutRegistry;
+import com.raphydaphy.breakoutapi.breakout.GUIBreakout;
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutFrameGovernor;
+import com.raphydaphy.breakoutapi.breakout.render.BreakoutRenderPass;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.util.Window;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
 import org.lwjgl.glfw.GLFW;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -15,9 +18,6 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Iterator;
-import java.util.Map;
-
 @Mixin(MinecraftClient.class)
 public class MinecraftClientMixin {
 	@Shadow @Final
@@ -26,31 +26,59 @@ public class MinecraftClientMixin {
 	@Inject(method = "onResolutionChanged", at = @At("HEAD"))
 	public void onResolutionChanged(CallbackInfo info) {
 		GLFW.glfwMakeContextCurrent(this.window.getHandle());
+		BreakoutAPIClient.getRenderPass().invalidateCurrentContext();
+	}
+
+	@Inject(method = "close", at = @At("HEAD"))
+	private void onClose(CallbackInfo info) {
+		BreakoutRenderPass pass = BreakoutAPIClient.getRenderPass();
+		BreakoutRegistry registry = BreakoutAPIClient.getRegistry();
+		registry.closeAll();
+		registry.drainDestroyQueue(pass);
+		BreakoutAPIClient.getWindowPool().destroyAll();
+		pass.makeCurrent(this.window.getHandle());
 	}
 
 	@Inject(method = "render", at = @At(value = "INVOKE_STRING", args = "ldc=yield", target = "Lnet/minecraft/util/profiler/Profiler;swap(Ljava/lang/String;)V"))
 	private void afterRender(CallbackInfo info) {
-		MinecraftClient.getInstance().getProfiler().swap("render breakouts");
+		Profiler profiler = MinecraftClient.getInstance().getProfiler();
+		profiler.swap("render breakouts");
+
+		BreakoutRegistry registry = BreakoutAPIClient.getRegistry();
+		BreakoutRenderPass pass = BreakoutAPIClient.getRenderPass();
+		pass.begin(this.window.getHandle());
+
+		registry.drainDestroyQueue(pass);
+
+		long time = System.nanoTime();
 
-		Breakout.checkError("before rendering breakouts");
+		GUIBreakout.updateShared();
 
-		Iterator<Map.Entry<Identifier, AbstractBreakout>> iter = BreakoutAPIClient.getBreakouts().entrySet().iterator();
-		while (iter.hasNext()) {
-			Map.Entry<Identifier, AbstractBreakout> entry = iter.next();
-			Identifier identifier = entry.getKey();
-			AbstractBreakout breakout = entry.getValue();
+		AbstractBreakout[] breakouts = registry.getSnapshot();
+		for (int i = 0; i < breakouts.length; i++) {
+			AbstractBreakout breakout = breakouts[i];
 
 			if (breakout.getWindow().shouldClose()) {
-				BreakoutAPI.LOGGER.info("Closing breakout '" + identifier + "'");
+				BreakoutAPI.LOGGER.info("Closing breakout '" + breakout.getIdentifier() + "'");
 
-				breakout.destroy();
-				iter.remove();
+				registry.close(breakout);
 			} else {
-				breakout.setupRender();
+				breakout.update();
+
+				if (breakout.isRenderDue(time) && breakout.isRenderAllowedInBackground(time)) {
+					pass.schedule(breakout, i);
+				}
 			}
 		}
 
-		Breakout.checkError("after rendering breakouts");
-		GLFW.glfwMakeContextCurrent(this.window.getHandle());
+		BreakoutFrameGovernor governor = BreakoutAPIClient.getGovernor();
+		pass.end(governor.getRenderLimit());
+
+		// Recorded before the swaps, as a blocking vsync swap would count the wait for vblank as render time
+		governor.record(System.nanoTime() - time, breakouts.length, profiler);
+
+		BreakoutAPIClient.getPresenter().flush(pass, this.window.getHandle());
+
+		BreakoutAPIClient.getWindowPool().fill(this.window.getHandle());
 	}
 }
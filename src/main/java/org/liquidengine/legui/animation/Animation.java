@@ -1,5 +1,7 @@
 package org.liquidengine.legui.animation;
 
+import org.liquidengine.legui.component.Component;
+
 /**
  * Draft animation realization.
  * <p>
@@ -13,13 +15,18 @@ public abstract class Animation {
      * Flag that indicates if animation was started.
      */
     private boolean animationStarted = false;
+    /**
+     * Animator which currently runs this animation.
+     */
+    private Animator animator;
 
     /**
      * Adds animation to animator.
      */
     public void startAnimation() {
         if (!animationStarted) {
-            AnimatorProvider.getAnimator().pushAnimation(this);
+            animator = AnimatorProvider.getAnimator();
+            animator.pushAnimation(this);
             animationStarted = true;
         }
     }
@@ -51,7 +58,32 @@ public abstract class Animation {
      * Used to stop animation. Removes animation from animator.
      */
     public void stopAnimation() {
-        AnimatorProvider.getAnimator().removeAnimation(this);
+        if (animator != null) {
+            animator.removeAnimation(this);
+        }
+    }
+
+    /**
+     * Returns component animated by this animation. Animations with component are moved to the animator of the frame the component is added to (see
+     * {@link AnimatorImpl#transferAnimations(org.liquidengine.legui.component.Frame, Animator)}). Animations without component are run by the shared
+     * animator.
+     * <p>
+     * NOTE: {@link #beforeAnimation()} is called again by the new animator when animation is moved.
+     *
+     * @return animated component or null.
+     */
+    public Component getComponent() {
+        return null;
+    }
+
+    /**
+     * Returns true if this animation only changes components through their setters, which invalidate the frame on their own. Passive animations don't
+     * force continuous redraws while they are running.
+     *
+     * @return true if animation doesn't need the frame to be redrawn every frame.
+     */
+    public boolean isPassive() {
+        return false;
     }
 
     /**
@@ -63,4 +95,13 @@ public abstract class Animation {
         return animationStarted;
     }
 
+    /**
+     * Used to set animator which runs this animation.
+     *
+     * @param animator animator which runs this animation.
+     */
+    void setAnimator(Animator animator) {
+        this.animator = animator;
+    }
+
 }
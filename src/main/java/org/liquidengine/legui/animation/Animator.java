@@ -26,5 +26,12 @@ public interface Animator {
      */
     void removeAnimation(Animation animation);
 
+    /**
+     * Returns true if there are running animations which are not {@link Animation#isPassive() passive}.
+     *
+     * @return true if there are running animations which need continuous redraws.
+     */
+    boolean hasActiveAnimations();
+
 
 }
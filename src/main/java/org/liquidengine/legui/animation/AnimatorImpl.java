@@ -1,5 +1,7 @@
 package org.liquidengine.legui.animation;
 
+import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.component.Frame;
 import org.lwjgl.glfw.GLFW;
 
 import java.util.ArrayList;
@@ -25,16 +27,16 @@ public class AnimatorImpl implements Animator {
      */
     private List<Animation> animationsToRemove = new CopyOnWriteArrayList<>();
     /**
-     * Used to store previous time.
+     * Used to store previous time. Is NaN until the first run, so that the first delta is zero rather than the time since GLFW initialization.
      */
-    private double previousTime;
+    private double previousTime = Double.NaN;
 
     /**
      * This method used to process animations.
      */
     public void runAnimations() {
         double currentTime = GLFW.glfwGetTime();
-        double delta = currentTime - previousTime;
+        double delta = Double.isNaN(previousTime) ? 0 : currentTime - previousTime;
 
         List<Animation> initializeList = new ArrayList<>(animationsToInitialize);
         for (Animation animation : initializeList) {
@@ -83,4 +85,49 @@ public class AnimatorImpl implements Animator {
         animationsToRemove.add(animation);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns true if there are running animations which are not {@link Animation#isPassive() passive}.
+     *
+     * @return true if there are running animations which need continuous redraws.
+     */
+    @Override
+    public boolean hasActiveAnimations() {
+        for (Animation animation : animationsToInitialize) {
+            if (!animation.isPassive()) {
+                return true;
+            }
+        }
+        for (Animation animation : animations) {
+            if (!animation.isPassive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Used to move animations which animate components of the specified frame to another animator (usually the animator of the frame runtime).
+     *
+     * @param frame frame which components animations should be moved.
+     * @param target animator to move animations to.
+     */
+    public void transferAnimations(Frame frame, Animator target) {
+        transferAnimations(animationsToInitialize, frame, target);
+        transferAnimations(animations, frame, target);
+    }
+
+    private void transferAnimations(List<Animation> list, Frame frame, Animator target) {
+        if (list.isEmpty()) {
+            return;
+        }
+        for (Animation animation : list) {
+            Component component = animation.getComponent();
+            if (component != null && component.getFrame() == frame && !animationsToRemove.contains(animation)) {
+                list.remove(animation);
+                animation.setAnimator(target);
+                target.pushAnimation(animation);
+            }
+        }
+    }
+
+}
@@ -5,6 +5,9 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
+import org.joml.Vector4f;
+import org.joml.Vector4fc;
 import org.liquidengine.legui.component.misc.listener.component.TabKeyEventListener;
 import org.liquidengine.legui.component.misc.listener.component.TooltipCursorEnterListener;
 import org.liquidengine.legui.cursor.Cursor;
@@ -14,6 +17,7 @@ import org.liquidengine.legui.event.CursorEnterEvent;
 import org.liquidengine.legui.event.KeyEvent;
 import org.liquidengine.legui.event.RemoveChildEvent;
 import org.liquidengine.legui.intersection.Intersector;
+import org.liquidengine.legui.intersection.LayerSpatialIndex;
 import org.liquidengine.legui.intersection.RectangleIntersector;
 import org.liquidengine.legui.listener.ListenerMap;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
@@ -24,38 +28,57 @@ import org.liquidengine.legui.theme.Themes;
 
 import java.io.Serializable;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
  * Component is an object that have graphical representation in legui system.
+ * <p>
+ * Component tree is not thread-safe and should be modified only from the thread which processes events and renders the frame. To traverse child components
+ * without allocation use {@link #count()} and {@link #getChild(int)}.
  */
 public class Component implements Serializable {
     ////////////////////////////////
     //// COMPONENT BASE DATA
     ////////////////////////////////
     /**
-     * Metadata map, place where renderers or event processors can store state of component.
+     * Shared style returned instead of state styles which were not created yet. Should never be modified.
      */
-    private final Map<String, Object> metadata = new HashMap<>();
+    private static final Style DEFAULT_STATE_STYLE = new Style();
     /**
-     * Component style.
+     * Child components copied by running {@link #updateRecursively(Context, Frame)} passes of the current thread. Nested passes push their children on top,
+     * so the same array is reused every frame.
      */
-    private final Style hoveredStyle = new Style();
+    private static final ThreadLocal<ChildrenStack> UPDATE_STACK = ThreadLocal.withInitial(ChildrenStack::new);
     /**
-     * Component style.
+     * Metadata map, place where renderers or event processors can store state of component. Created on first access.
      */
-    private final Style focusedStyle = new Style();
+    private Map<String, Object> metadata;
     /**
-     * Component style.
+     * Component style. Created on first access.
+     */
+    private Style hoveredStyle;
+    /**
+     * Component style. Created on first access.
+     */
+    private Style focusedStyle;
+    /**
+     * Component style. Created on first access.
      */
-    private final Style pressedStyle = new Style();
+    private Style pressedStyle;
     /**
      * List of child components.
      */
-    private final List<Component> childComponents = new CopyOnWriteArrayList<>();
+    private final List<Component> childComponents = new ArrayList<>();
+    /**
+     * Read-only view of child components.
+     */
+    private final List<Component> childComponentsView = Collections.unmodifiableList(childComponents);
+    /**
+     * Incremented every time child components are added or removed.
+     */
+    private transient int childModificationCount;
     /**
      * Parent component container. For root components it could be null.
      */
@@ -63,17 +86,30 @@ public class Component implements Serializable {
     /**
      * Map for UI event listeners.
      */
-    private ListenerMap listenerMap = new ListenerMap();
+    private ListenerMap listenerMap = new ListenerMap(this::listenersChanged);
     /**
      * Position of component relative top left corner in parent component.
      * <p>
      * If component is the root component then position calculated relative window top left corner.
      */
-    private Vector2f position = new Vector2f();
+    private final Vector2f position;
     /**
      * Size of component.
      */
-    private Vector2f size = new Vector2f();
+    private final Vector2f size;
+    /**
+     * Cached absolute position of component. Valid only if {@link #transformValid} is true.
+     */
+    private final Vector2f absolutePosition = new Vector2f();
+    /**
+     * Cached clip bounds of component (intersection of absolute bounds of all parent components). Valid only if {@link #transformValid} is true.
+     */
+    private final Vector4f clipBounds = new Vector4f();
+    /**
+     * Shows if cached absolute position and clip bounds are up to date. If component transform is valid, transforms of all of its parents are valid too, so
+     * invalidation doesn't need to go deeper than already invalid components.
+     */
+    private transient boolean transformValid;
     /**
      * Used to enable and disable event processing for this component. If enabled==false then component won't receive events.
      */
@@ -149,7 +185,9 @@ public class Component implements Serializable {
      * @param height height of component.
      */
     public Component(float x, float y, float width, float height) {
-        this(new Vector2f(x, y), new Vector2f(width, height));
+        this.position = new Vector2f(x, y);
+        this.size = new Vector2f(width, height);
+        initialize();
     }
 
     /**
@@ -159,27 +197,79 @@ public class Component implements Serializable {
      * @param size     size of component.
      */
     public Component(Vector2f position, Vector2f size) {
-        this.position = position;
-        this.size = size;
-        initialize();
+        this(position.x, position.y, size.x, size.y);
     }
 
     ////////////////////////////////
     //// CONTAINER BASE DATA
     ////////////////////////////////
 
+    /**
+     * Returns style which is applied to component when it is focused. Style is created on first call, so to read style without creating it use
+     * {@link #getFocusedStyleOrDefault()}.
+     *
+     * @return focused style.
+     */
     public Style getFocusedStyle() {
+        if (focusedStyle == null) {
+            focusedStyle = new Style();
+        }
         return focusedStyle;
     }
 
+    /**
+     * Returns style which is applied to component when it is hovered. Style is created on first call, so to read style without creating it use
+     * {@link #getHoveredStyleOrDefault()}.
+     *
+     * @return hovered style.
+     */
     public Style getHoveredStyle() {
+        if (hoveredStyle == null) {
+            hoveredStyle = new Style();
+        }
         return hoveredStyle;
     }
 
+    /**
+     * Returns style which is applied to component when it is pressed. Style is created on first call, so to read style without creating it use
+     * {@link #getPressedStyleOrDefault()}.
+     *
+     * @return pressed style.
+     */
     public Style getPressedStyle() {
+        if (pressedStyle == null) {
+            pressedStyle = new Style();
+        }
         return pressedStyle;
     }
 
+    /**
+     * Returns focused style or shared default style if focused style was not created yet. Returned style should be used only for reading.
+     *
+     * @return focused style or default style.
+     */
+    public Style getFocusedStyleOrDefault() {
+        return focusedStyle == null ? DEFAULT_STATE_STYLE : focusedStyle;
+    }
+
+    /**
+     * Returns hovered style or shared default style if hovered style was not created yet. Returned style should be used only for reading.
+     *
+     * @return hovered style or default style.
+     */
+    public Style getHoveredStyleOrDefault() {
+        return hoveredStyle == null ? DEFAULT_STATE_STYLE : hoveredStyle;
+    }
+
+    /**
+     * Returns pressed style or shared default style if pressed style was not created yet. Returned style should be used only for reading.
+     *
+     * @return pressed style or default style.
+     */
+    public Style getPressedStyleOrDefault() {
+        return pressedStyle == null ? DEFAULT_STATE_STYLE : pressedStyle;
+    }
+
     /**
      * Returns component style.
      *
@@ -204,8 +294,9 @@ public class Component implements Serializable {
      * @param style component style to set.
      */
     public Component setStyle(Style style) {
-        if (style != null) {
+        if (style != null && style != this.style) {
             this.style = style;
+            invalidate();
         }
         return this;
     }
@@ -214,8 +305,8 @@ public class Component implements Serializable {
      * Used to initialize component.
      */
     private void initialize() {
-        getListenerMap().addListener(CursorEnterEvent.class, new TooltipCursorEnterListener());
-        getListenerMap().addListener(KeyEvent.class, new TabKeyEventListener());
+        getListenerMap().addListener(CursorEnterEvent.class, TooltipCursorEnterListener.getInstance());
+        getListenerMap().addListener(KeyEvent.class, TabKeyEventListener.getInstance());
         Themes.getDefaultTheme().getThemeManager().getComponentTheme(Component.class).applyAll(this);
     }
 
@@ -241,12 +332,10 @@ public class Component implements Serializable {
             return this;
         }
 
-        if (this.parent != null) {
-            this.parent.remove(this);
-        }
-        this.parent = parent;
         if (parent != null) {
             parent.add(this);
+        } else if (this.parent != null) {
+            this.parent.remove(this);
         }
         return this;
     }
@@ -266,12 +355,26 @@ public class Component implements Serializable {
      * @param listenerMap map of event listeners.
      */
     public Component setListenerMap(ListenerMap listenerMap) {
-        this.listenerMap = listenerMap;
+        if (this.listenerMap != listenerMap) {
+            if (this.listenerMap != null) {
+                this.listenerMap.setObserver(null);
+            }
+            this.listenerMap = listenerMap;
+            if (listenerMap != null) {
+                listenerMap.setObserver(this::listenersChanged);
+            }
+            Layer layer = getOwnLayer();
+            Frame frame = layer == null ? null : layer.getFrame();
+            if (frame != null) {
+                frame.getSubscriberIndex().invalidate(layer);
+            }
+        }
         return this;
     }
 
     /**
-     * Returns position vector. Be careful during changing this vector.
+     * Returns position vector. Returned vector is the one used by component, so it should only be read: changes made directly to it are not seen by cached
+     * absolute position, clip bounds and hit-test index. Use {@link #setPosition(float, float)} to move component.
      *
      * @return position vector.
      */
@@ -280,15 +383,19 @@ public class Component implements Serializable {
     }
 
     /**
-     * Used to set position of component.
+     * Used to set position of component. Coordinates are copied, so later changes of passed vector don't move component. Passing vector returned by {@link
+     * #getPosition()} marks position as changed.
      *
      * @param position new position for component.
      */
     public Component setPosition(Vector2f position) {
-        if (position != null) {
-            this.position = position;
+        if (position == null) {
+            updatePosition(0, 0);
+        } else if (position == this.position) {
+            invalidate();
+            invalidateBounds();
         } else {
-            this.position.set(0);
+            updatePosition(position.x, position.y);
         }
         return this;
     }
@@ -300,10 +407,18 @@ public class Component implements Serializable {
      * @param y y position relative to parent component.
      */
     public Component setPosition(float x, float y) {
-        this.position.set(x, y);
+        updatePosition(x, y);
         return this;
     }
 
+    private void updatePosition(float x, float y) {
+        if (this.position.x != x || this.position.y != y) {
+            this.position.set(x, y);
+            invalidate();
+            invalidateBounds();
+        }
+    }
+
     /**
      * Returns size vector of component. So to get width you can use.
      * <pre>
@@ -314,6 +429,9 @@ public class Component implements Serializable {
      * }
      * </pre>
      *
+     * Returned vector should only be read: changes made directly to it are not seen by cached clip bounds and hit-test index. Use {@link #setSize(float,
+     * float)} to resize component.
+     *
      * @return size of component.
      */
     public Vector2f getSize() {
@@ -321,15 +439,19 @@ public class Component implements Serializable {
     }
 
     /**
-     * Used to set size vector.
+     * Used to set size vector. Size is copied, so later changes of passed vector don't resize component. Passing vector returned by {@link #getSize()} marks
+     * size as changed.
      *
      * @param size size vector.
      */
     public Component setSize(Vector2f size) {
-        if (size != null) {
-            this.size = size;
+        if (size == null) {
+            updateSize(0, 0);
+        } else if (size == this.size) {
+            invalidate();
+            invalidateBounds();
         } else {
-            this.size.set(0);
+            updateSize(size.x, size.y);
         }
         return this;
     }
@@ -341,21 +463,104 @@ public class Component implements Serializable {
      * @param height height to set.
      */
     public Component setSize(float width, float height) {
-        this.size.set(width, height);
+        updateSize(width, height);
         return this;
     }
 
+    private void updateSize(float width, float height) {
+        if (this.size.x != width || this.size.y != height) {
+            this.size.set(width, height);
+            invalidate();
+            invalidateBounds();
+        }
+    }
+
     /**
      * Returns absolute component position.
+     * <p>
+     * <span style="color:red">NOTE: this method returns NEW {@link Vector2f}</span>. Use {@link #getAbsolutePositionView()} to read absolute position without
+     * allocation.
      *
      * @return position vector.
      */
     public Vector2f getAbsolutePosition() {
-        Vector2f screenPos = new Vector2f(this.position);
-        for (Component p = this.getParent(); p != null; p = p.getParent()) {
-            screenPos.add(p.getPosition());
+        return new Vector2f(getAbsolutePositionView());
+    }
+
+    /**
+     * Returns cached absolute component position. Returned vector is updated in place when component or any of its parents is moved, so it should be copied
+     * if the value is needed later.
+     *
+     * @return absolute position of component.
+     */
+    public Vector2fc getAbsolutePositionView() {
+        validateTransform();
+        return absolutePosition;
+    }
+
+    /**
+     * Returns cached clip bounds of component - intersection of absolute bounds of all of its parent components, which is the area component could be drawn
+     * in. Bounds are stored as (minX, minY, maxX, maxY). For root components bounds are infinite. Returned vector is updated in place.
+     *
+     * @return clip bounds of component.
+     */
+    public Vector4fc getClipBounds() {
+        validateTransform();
+        return clipBounds;
+    }
+
+    /**
+     * Returns absolute position of origin which {@link #getPosition() position} of this component is relative to. By default it is absolute position of
+     * parent component.
+     * <p>
+     * Components which override this method to use other component as origin should call {@link #invalidateBounds()} when that component changes.
+     *
+     * @return absolute position of origin or null if position is absolute.
+     */
+    protected Vector2fc getPositionOrigin() {
+        return parent == null ? null : parent.getAbsolutePositionView();
+    }
+
+    /**
+     * Used to update cached absolute position and clip bounds if they are outdated.
+     */
+    private void validateTransform() {
+        if (transformValid) {
+            return;
+        }
+        Vector2fc origin = getPositionOrigin();
+        if (origin == null) {
+            absolutePosition.set(position);
+        } else {
+            absolutePosition.set(origin).add(position);
+        }
+        if (parent == null) {
+            clipBounds.set(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+        } else {
+            Vector4fc parentClip = parent.getClipBounds();
+            Vector2fc parentPosition = parent.getAbsolutePositionView();
+            clipBounds.set(Math.max(parentClip.x(), parentPosition.x()),
+                           Math.max(parentClip.y(), parentPosition.y()),
+                           Math.min(parentClip.z(), parentPosition.x() + parent.size.x),
+                           Math.min(parentClip.w(), parentPosition.y() + parent.size.y));
+        }
+        transformValid = true;
+    }
+
+    /**
+     * Used to mark cached absolute position and clip bounds of this component and all of its child components (and their tooltips) as outdated.
+     */
+    private void invalidateTransform() {
+        if (!transformValid) {
+            return;
+        }
+        transformValid = false;
+        for (int i = 0; i < childComponents.size(); i++) {
+            childComponents.get(i).invalidateTransform();
+        }
+        if (tooltip != null && tooltip.getComponent() == this) {
+            tooltip.invalidateBounds();
         }
-        return screenPos;
     }
 
     /**
@@ -373,7 +578,10 @@ public class Component implements Serializable {
      * @param enabled flag to set.
      */
     public Component setEnabled(boolean enabled) {
-        this.enabled = enabled;
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            invalidate();
+        }
         return this;
     }
 
@@ -392,7 +600,7 @@ public class Component implements Serializable {
      * @param point point to check.
      * @return true if component intersected by point.
      */
-    public boolean intersects(Vector2f point) {
+    public boolean intersects(Vector2fc point) {
         return intersector.intersects(this, point);
     }
 
@@ -414,16 +622,22 @@ public class Component implements Serializable {
         if (intersector == null) {
             return this;
         }
-        this.intersector = intersector;
+        if (this.intersector != intersector) {
+            this.intersector = intersector;
+            invalidateBounds();
+        }
         return this;
     }
 
     /**
-     * Returns component metadata. Storage of some temporary statements. Can be used for example by stateless renderers.
+     * Returns component metadata. Storage of some temporary statements. Can be used for example by stateless renderers. Map is created on first call.
      *
      * @return map of objects.
      */
     public Map<String, Object> getMetadata() {
+        if (metadata == null) {
+            metadata = new HashMap<>();
+        }
         return metadata;
     }
 
@@ -442,7 +656,10 @@ public class Component implements Serializable {
      * @param hovered new hovered value.
      */
     public Component setHovered(boolean hovered) {
-        this.hovered = hovered;
+        if (this.hovered != hovered) {
+            this.hovered = hovered;
+            invalidate();
+        }
         return this;
     }
 
@@ -461,7 +678,10 @@ public class Component implements Serializable {
      * @param focused new hovered value.
      */
     public Component setFocused(boolean focused) {
-        this.focused = focused;
+        if (this.focused != focused) {
+            this.focused = focused;
+            invalidate();
+        }
         return this;
     }
 
@@ -480,7 +700,10 @@ public class Component implements Serializable {
      * @param pressed new hovered value.
      */
     public Component setPressed(boolean pressed) {
-        this.pressed = pressed;
+        if (this.pressed != pressed) {
+            this.pressed = pressed;
+            invalidate();
+        }
         return this;
     }
 
@@ -511,6 +734,7 @@ public class Component implements Serializable {
         }
 
         this.tooltip = tooltip;
+        invalidate();
         // bind component to tooltip
         if (tooltip != null) {
             tooltip.setComponent(this);
@@ -627,77 +851,128 @@ public class Component implements Serializable {
     }
 
     /**
-     * Returns an iterator over the elements in this component. The elements are returned in no particular order.
+     * Returns child component at specified position. Together with {@link #count()} could be used to iterate over child components without allocation.
+     * <p>
+     * Index loop sees changes made during the loop: if current child is removed, next sibling takes its index and is skipped. Loops which call code that can
+     * add or remove children should iterate over a copy, as {@link #updateRecursively(Context, Frame)} does.
+     *
+     * @param index index of child component.
+     * @return child component at specified position.
+     * @throws IndexOutOfBoundsException if index is out of range.
+     * @see List#get(int)
+     */
+    public Component getChild(int index) {
+        return childComponents.get(index);
+    }
+
+    /**
+     * Returns number of structural modifications of child components (additions and removals). Could be used to check if child components were changed
+     * during iteration or since some cached state was calculated.
+     *
+     * @return modification count of child components.
+     */
+    public int getChildModificationCount() {
+        return childModificationCount;
+    }
+
+    /**
+     * Returns an iterator over the elements in this component. The elements are returned in no particular order. Iterator doesn't support removal and throws
+     * {@link ConcurrentModificationException} if child components are added or removed during iteration.
      *
      * @return an iterator over the elements in this component.
      * @see List#iterator()
      */
     public Iterator<Component> containerIterator() {
-        return childComponents.iterator();
+        return childComponentsView.iterator();
     }
 
     /**
-     * Used to add component to component.
+     * Used to add component to component. If component is attached to other component it is removed from it first.
      *
      * @param component component to add.
      * @return true if component is added.
      * @see List#add(Object)
      */
     public Component add(Component component) {
-        if (component == null || component == this || isContains(component)) {
-            // can't add component
-            return this;
-        }
-        childComponents.add(component);
-        changeParent(component);
-        EventProcessorProvider.getInstance().pushEvent(new AddChildEvent<>(this, component));
+        add(childComponents.size(), component);
         return this;
     }
 
+    /**
+     * Used to insert component at specified position. If component is attached to other component it is removed from it first.
+     *
+     * @param index     index at which component should be inserted.
+     * @param component component to add.
+     * @see List#add(int, Object)
+     */
     public void add(int index, Component component) {
-        if (component == null || component == this || isContains(component)) {
+        if (!canAdd(component)) {
             return;
         }
-        childComponents.add(index, component);
         changeParent(component);
+        childComponents.add(index, component);
+        invalidate();
+        invalidateHierarchy(Collections.singletonList(component), true);
         EventProcessorProvider.getInstance().pushEvent(new AddChildEvent<>(this, component));
     }
 
     /**
-     * Used to check if component collection contains component or not. Checked by reference.
+     * Used to check if component collection contains component or not. Checked by reference using parent of component.
      *
      * @param component component to check.
      * @return true if collection contains provided component.
      */
     private boolean isContains(Component component) {
-        return childComponents.stream().anyMatch(c -> c == component);
+        return component != null && component.parent == this;
     }
 
     /**
-     * Used to add components.
+     * Used to check if component could be added to this component.
+     *
+     * @param component component to check.
+     * @return true if component could be added.
+     */
+    private boolean canAdd(Component component) {
+        return component != null && component != this && !isContains(component);
+    }
+
+    /**
+     * Used to add components. Components are added as a single change, so only one {@link AddChildEvent} is generated.
      *
      * @param components components nodes to add.
      */
     public void addAll(Collection<? extends Component> components) {
-        if (components != null) {
-            components.forEach(this::add);
+        if (components == null || components.isEmpty()) {
+            return;
+        }
+        List<Component> added = new ArrayList<>(components.size());
+        // components could be removed from collection owner while they are added, so iterate over a copy
+        for (Component component : components.toArray(new Component[0])) {
+            if (canAdd(component)) {
+                changeParent(component);
+                childComponents.add(component);
+                added.add(component);
+            }
+        }
+        if (!added.isEmpty()) {
+            invalidate();
+            invalidateHierarchy(added, true);
+            EventProcessorProvider.getInstance().pushEvent(new AddChildEvent<>(this, added));
         }
     }
 
     /**
-     * Used to change parent of added component.
+     * Used to change parent of added component. Removes component from previous parent.
      *
      * @param component component to change.
      */
     private void changeParent(Component component) {
-        Component p = component.getParent();
-        if (p == this) {
-            return;
-        }
+        Component p = component.parent;
         if (p != null) {
             p.remove(component);
         }
-        component.setParent(this);
+        component.parent = this;
+        component.invalidateTransform();
     }
 
     /**
@@ -708,69 +983,114 @@ public class Component implements Serializable {
      * @see List#remove(Object)
      */
     public boolean remove(Component component) {
-        if (component != null) {
-            Component p = component.getParent();
-            if (p == this && isContains(component)) {
-                boolean removed = childComponents.remove(component);
-                component.setParent(null);
-                EventProcessorProvider.getInstance().pushEvent(new RemoveChildEvent<>(this, component));
-                return removed;
-            }
+        if (!isContains(component)) {
+            return false;
+        }
+        int index = indexOfChild(component);
+        if (index < 0) {
+            return false;
         }
-        return false;
+        remove(index);
+        return true;
     }
 
+    /**
+     * Used to remove component at specified position.
+     *
+     * @param index index of component to remove.
+     * @return removed component.
+     * @see List#remove(int)
+     */
     public Component remove(int index) {
         Component component = childComponents.remove(index);
         if (component != null) {
-            component.setParent(null);
+            component.parent = null;
+            component.invalidateTransform();
+            invalidate();
+            invalidateHierarchy(Collections.singletonList(component), false);
             EventProcessorProvider.getInstance().pushEvent(new RemoveChildEvent<>(this, component));
         }
         return component;
     }
 
     /**
-     * Used to remove components.
+     * Used to remove components. Components are removed as a single change, so only one {@link RemoveChildEvent} is generated.
      *
      * @param components components to remove.
      * @see List#removeAll(Collection)
      */
     public void removeAll(Collection<? extends Component> components) {
-        if (components != null) {
-            components.forEach(this::remove);
+        if (components == null || components.isEmpty()) {
+            return;
+        }
+        List<Component> removed = new ArrayList<>(Math.min(components.size(), childComponents.size()));
+        for (Component component : components) {
+            if (isContains(component)) {
+                // detached components are removed from the list below in a single pass
+                component.parent = null;
+                component.invalidateTransform();
+                removed.add(component);
+            }
+        }
+        if (!removed.isEmpty()) {
+            childComponents.removeIf(c -> c.parent != this);
+            invalidate();
+            invalidateHierarchy(removed, false);
+            EventProcessorProvider.getInstance().pushEvent(new RemoveChildEvent<>(this, removed));
         }
     }
 
     /**
      * Removes all of the elements of this component that satisfy the given predicate. Errors or runtime exceptions thrown during iteration or by the predicate
-     * are relayed to the caller.
+     * are relayed to the caller. Components are removed as a single change, so only one {@link RemoveChildEvent} is generated.
      *
      * @param filter a predicate which returns true for elements to be removed.
      * @see List#removeIf(Predicate)
      */
     public void removeIf(Predicate<? super Component> filter) {
-        childComponents.stream().filter(filter).forEach(this::remove);
+        List<Component> removed = new ArrayList<>();
+        for (Component child : childComponents) {
+            if (filter.test(child)) {
+                removed.add(child);
+            }
+        }
+        removeAll(removed);
     }
 
     /**
-     * Used to remove all child components from component.
+     * Used to remove all child components from component. Only one {@link RemoveChildEvent} is generated.
      *
      * @see List#clear()
      */
     public void clearChildComponents() {
-        childComponents.forEach(compo -> compo.setParent(null));
+        if (childComponents.isEmpty()) {
+            return;
+        }
+        List<Component> removed = new ArrayList<>(childComponents);
+        for (Component child : removed) {
+            child.parent = null;
+            child.invalidateTransform();
+        }
         childComponents.clear();
+        invalidate();
+        invalidateHierarchy(removed, false);
+        EventProcessorProvider.getInstance().pushEvent(new RemoveChildEvent<>(this, removed));
     }
 
     /**
-     * Returns true if this Container contains all of the elements of the specified collection.
+     * Returns true if this Container contains all of the elements of the specified collection. Checked by reference.
      *
      * @param components components collection to check.
      * @return true if this Container contains all of the elements of the specified collection.
      * @see List#containsAll(Collection)
      */
     public boolean containsAll(Collection<Component> components) {
-        return this.childComponents.containsAll(components);
+        for (Component component : components) {
+            if (!isContains(component)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -780,7 +1100,7 @@ public class Component implements Serializable {
      * @see List#stream()
      */
     public Stream<Component> stream() {
-        return childComponents.stream();
+        return childComponentsView.stream();
     }
 
     /**
@@ -790,11 +1110,12 @@ public class Component implements Serializable {
      * @see List#parallelStream()
      */
     public Stream<Component> parallelStream() {
-        return childComponents.parallelStream();
+        return childComponentsView.parallelStream();
     }
 
     /**
-     * Performs the given action for each element of the Iterable until all elements have been processed or the action throws an exception.
+     * Performs the given action for each element of the Iterable until all elements have been processed or the action throws an exception. Action should not
+     * add or remove child components of this component.
      *
      * @param action The action to be performed for each element.
      */
@@ -805,7 +1126,8 @@ public class Component implements Serializable {
     /**
      * Used to retrieve child components as {@link List}.
      * <p>
-     * <span style="color:red">NOTE: this method returns NEW {@link List} of components</span>.
+     * <span style="color:red">NOTE: this method returns NEW {@link List} of components</span>. Use {@link #count()} and {@link #getChild(int)} to iterate
+     * over child components without copying them.
      *
      * @return list of child components.
      */
@@ -814,13 +1136,20 @@ public class Component implements Serializable {
     }
 
     /**
-     * Used to recursively update the component
+     * Used to recursively update the component. Child components are updated in the order they had when the pass reached this component: components added
+     * during the pass are updated on the next one, and removing a component doesn't skip its siblings.
      */
     public void updateRecursively(Context context, Frame frame) {
-        if (!this.isEmpty()) {
-            List<Component> childComponents = this.getChildComponents();
-            for (Component child : childComponents) {
-                child.updateRecursively(context, frame);
+        if (!childComponents.isEmpty()) {
+            ChildrenStack stack = UPDATE_STACK.get();
+            int start = stack.push(childComponents);
+            int end = stack.size;
+            try {
+                for (int i = start; i < end; i++) {
+                    stack.components[i].updateRecursively(context, frame);
+                }
+            } finally {
+                stack.pop(start);
             }
         }
         this.update(context, frame);
@@ -892,8 +1221,22 @@ public class Component implements Serializable {
                 .toString();
     }
 
+    /**
+     * Returns index of child component. Checked by reference.
+     *
+     * @param component child component.
+     * @return index of child component or -1 if component is not a child of this component.
+     */
     public int indexOfChild(Component component) {
-        return childComponents.indexOf(component);
+        if (!isContains(component)) {
+            return -1;
+        }
+        for (int i = 0; i < childComponents.size(); i++) {
+            if (childComponents.get(i) == component) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public Layer getLayer() {
@@ -924,4 +1267,107 @@ public class Component implements Serializable {
     public void keepRendering(boolean keepRendering) {
         this.keepRendering = keepRendering;
     }
+
+    /**
+     * Used to mark the frame this component belongs to as requiring a redraw. Called by component setters when their value changes. Should be called
+     * manually after mutating styles, text states or vectors returned by getters, as those changes are not tracked.
+     */
+    public void invalidate() {
+        Frame frame = getFrame();
+        if (frame != null) {
+            frame.invalidate();
+        }
+    }
+
+    /**
+     * Used to notify hit-test index of the layer this component belongs to and cached absolute positions of this component and its child components that
+     * position or size of this component changed. Called by position, size and intersector setters.
+     */
+    public void invalidateBounds() {
+        invalidateTransform();
+        LayerSpatialIndex spatialIndex = getSpatialIndex();
+        if (spatialIndex != null) {
+            spatialIndex.invalidate(this);
+        }
+    }
+
+    /**
+     * Used to notify hit-test index of the layer and subscriber index of the frame this component belongs to that child components were added or removed.
+     *
+     * @param components added or removed child components.
+     * @param added      true if components were added, false if removed.
+     */
+    private void invalidateHierarchy(List<Component> components, boolean added) {
+        childModificationCount++;
+        LayerSpatialIndex spatialIndex = getSpatialIndex();
+        if (spatialIndex != null) {
+            for (int i = 0; i < components.size(); i++) {
+                if (added) {
+                    spatialIndex.componentAdded(components.get(i));
+                } else {
+                    spatialIndex.componentRemoved(components.get(i));
+                }
+            }
+        }
+        Layer layer = getOwnLayer();
+        Frame frame = layer == null ? null : layer.getFrame();
+        if (frame != null) {
+            frame.getSubscriberIndex().invalidate(layer);
+        }
+    }
+
+    /**
+     * Used to notify subscriber index of the frame this component belongs to that listeners of specified event type were added or removed.
+     */
+    private void listenersChanged(ListenerMap listenerMap, int eventTypeId) {
+        Layer layer = getOwnLayer();
+        Frame frame = layer == null ? null : layer.getFrame();
+        if (frame != null) {
+            frame.getSubscriberIndex().invalidate(layer, eventTypeId);
+        }
+    }
+
+    /**
+     * Returns layer this component belongs to, which is component itself for layers.
+     */
+    private Layer getOwnLayer() {
+        return this instanceof Layer ? (Layer) this : getLayer();
+    }
+
+    /**
+     * Returns hit-test index of the layer this component belongs to.
+     *
+     * @return hit-test index or null if component is not attached to layer.
+     */
+    protected LayerSpatialIndex getSpatialIndex() {
+        Layer layer = getLayer();
+        return layer == null ? null : layer.getSpatialIndex();
+    }
+
+    /**
+     * Stack of copied child component arrays. Grows to the size needed by the biggest component tree and is reused afterwards.
+     */
+    private static final class ChildrenStack {
+
+        private Component[] components = new Component[64];
+        private int size;
+
+        private int push(List<Component> children) {
+            int start = size;
+            int end = start + children.size();
+            if (end > components.length) {
+                components = Arrays.copyOf(components, Math.max(end, components.length * 2));
+            }
+            for (int i = 0; i < children.size(); i++) {
+                components[start + i] = children.get(i);
+            }
+            size = end;
+            return start;
+        }
+
+        private void pop(int start) {
+            Arrays.fill(components, start, size, null);
+            size = start;
+        }
+    }
 }
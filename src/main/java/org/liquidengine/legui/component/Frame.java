@@ -5,23 +5,26 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.joml.Vector2f;
+import org.liquidengine.legui.system.FrameRuntime;
+import org.liquidengine.legui.system.SubscriberIndex;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Default structure which should be associated with OpenGL window. Contains two default layers: <ul> <li>Component layer - holds components and always on
  * bottom of all layers.</li> <li>Tooltip layer - holds tooltips and always on top of all layers.</li> </ul> <span style="color:red;">NOTE: layers processed in
  * reverse order - from top to bottom.</span>
+ * <p>
+ * Like component tree, frame is not thread-safe and its layers should be changed only from the thread which processes events and renders the frame.
  */
 public class Frame {
 
     /**
      * All other layers added to this list.
      */
-    private final List<Layer> layers = new CopyOnWriteArrayList<>();
+    private final List<Layer> layers = new ArrayList<>();
     /**
      * Used to hold tooltips.
      */
@@ -30,6 +33,18 @@ public class Frame {
      * Used to hold components.
      */
     private Layer componentLayer;
+    /**
+     * Shows if something changed in this frame since the last time it was validated (rendered).
+     */
+    private boolean invalid = true;
+    /**
+     * Event processor, animator and layout manager of this frame.
+     */
+    private final FrameRuntime runtime = new FrameRuntime();
+    /**
+     * Components of this frame which have listeners for specific event types.
+     */
+    private final SubscriberIndex subscriberIndex = new SubscriberIndex(this);
 
     /**
      * Used to create frame and initialize layers with specified size.
@@ -112,6 +127,8 @@ public class Frame {
         }
         if (!containsLayer(layer) && layers.add(layer)) {
             changeFrame(layer);
+            invalidate();
+            subscriberIndex.invalidate(layer);
         }
     }
 
@@ -140,6 +157,8 @@ public class Frame {
             boolean removed = layers.remove(layer);
             if (removed) {
                 layer.setParent(null);
+                invalidate();
+                subscriberIndex.invalidate(layer);
             }
         }
     }
@@ -165,6 +184,7 @@ public class Frame {
 
     public Frame setComponentLayer(Layer componentLayer) {
         this.componentLayer = Objects.requireNonNull(componentLayer);
+        subscriberIndex.invalidate();
         return this;
     }
 
@@ -179,6 +199,7 @@ public class Frame {
 
     public Frame setTooltipLayer(Layer tooltipLayer) {
         this.tooltipLayer = Objects.requireNonNull(tooltipLayer);
+        subscriberIndex.invalidate();
         return this;
     }
 
@@ -199,13 +220,81 @@ public class Frame {
      * @return all layers.
      */
     public List<Layer> getAllLayers() {
-        ArrayList<Layer> layerList = new ArrayList<>();
+        ArrayList<Layer> layerList = new ArrayList<>(getLayerCount());
         layerList.add(componentLayer);
         layerList.addAll(this.layers);
         layerList.add(tooltipLayer);
         return layerList;
     }
 
+    /**
+     * Returns count of all layers including default component and tooltip layers.
+     *
+     * @return count of all layers.
+     */
+    public int getLayerCount() {
+        return layers.size() + 2;
+    }
+
+    /**
+     * Returns layer at specified position in the list returned by {@link #getAllLayers()}. Together with {@link #getLayerCount()} could be used to iterate
+     * over layers without allocation.
+     *
+     * @param index index of layer.
+     * @return layer at specified position.
+     * @throws IndexOutOfBoundsException if index is out of range.
+     */
+    public Layer getLayer(int index) {
+        if (index == 0) {
+            return componentLayer;
+        }
+        if (index == layers.size() + 1) {
+            return tooltipLayer;
+        }
+        return layers.get(index - 1);
+    }
+
+    /**
+     * Used to mark frame as requiring a redraw.
+     */
+    public void invalidate() {
+        this.invalid = true;
+    }
+
+    /**
+     * Returns true if something changed in this frame since the last call to {@link #validate()}.
+     *
+     * @return true if frame should be redrawn.
+     */
+    public boolean isInvalid() {
+        return invalid;
+    }
+
+    /**
+     * Used to mark frame as up to date. Should be called by the owner of the frame right before rendering it.
+     */
+    public void validate() {
+        this.invalid = false;
+    }
+
+    /**
+     * Returns UI runtime of this frame (event processor, animator and layout manager).
+     *
+     * @return UI runtime of this frame.
+     */
+    public FrameRuntime getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * Returns index of components of this frame which have listeners for specific event types. Used to broadcast window events.
+     *
+     * @return subscriber index of this frame.
+     */
+    public SubscriberIndex getSubscriberIndex() {
+        return subscriberIndex;
+    }
+
     /**
      * Used to retrieve container of default component layer.
      *
@@ -2,6 +2,7 @@ package org.liquidengine.legui.component;
 
 import org.liquidengine.legui.component.misc.listener.layercontainer.LayerContainerWindowSizeEventListener;
 import org.liquidengine.legui.event.WindowSizeEvent;
+import org.liquidengine.legui.intersection.LayerSpatialIndex;
 import org.liquidengine.legui.style.color.ColorConstants;
 import org.liquidengine.legui.theme.Themes;
 
@@ -24,6 +25,10 @@ public class Layer extends Component {
      * Determines if current layer and all of it components can receive events.
      */
     private boolean eventReceivable = true;
+    /**
+     * Index of component bounds used to find components under cursor.
+     */
+    private transient LayerSpatialIndex spatialIndex;
 
     /**
      * Default constructor. Used to create component instance without any parameters.
@@ -67,6 +72,19 @@ public class Layer extends Component {
         }
     }
 
+    /**
+     * Returns index of component bounds of this layer, used by system event handlers to find components under cursor.
+     *
+     * @return spatial index of this layer.
+     */
+    @Override
+    public LayerSpatialIndex getSpatialIndex() {
+        if (spatialIndex == null) {
+            spatialIndex = new LayerSpatialIndex(this);
+        }
+        return spatialIndex;
+    }
+
     /**
      * Returns true if layer is event passable.
      *
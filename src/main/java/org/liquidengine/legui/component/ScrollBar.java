@@ -325,8 +325,9 @@ public class ScrollBar extends Component {
      * @param visibleAmount visible size of viewport.
      */
     public ScrollBar setVisibleAmount(float visibleAmount) {
-        if (visibleAmount > minValue && visibleAmount <= maxValue) {
+        if (visibleAmount > minValue && visibleAmount <= maxValue && this.visibleAmount != visibleAmount) {
             this.visibleAmount = visibleAmount;
+            invalidate();
         }
         return this;
     }
@@ -157,7 +157,8 @@ public class ScrollablePanel extends Component implements Viewport {
             Vector2f viewportSize = calculateViewportSize();
 
             Vector2f size = new Vector2f(viewportSize);
-            for (Component childComponent : container.getChildComponents()) {
+            for (int i = 0; i < container.count(); i++) {
+                Component childComponent = container.getChild(i);
                 float right = childComponent.getPosition().x + childComponent.getSize().x;
                 float bottom = childComponent.getPosition().y + childComponent.getSize().y;
                 if (right > size.x) {
@@ -288,7 +288,7 @@ public class SelectBox<T> extends Component {
                 elements.add(element);
                 selectBoxElements.add(boxElement);
                 selectionListPanel.getContainer().add(boxElement);
-                selectionListPanel.getContainer().getSize().y = selectBoxElements.size() * elementHeight;
+                selectionListPanel.getContainer().setSize(selectionListPanel.getContainer().getSize().x, selectBoxElements.size() * elementHeight);
             }
         } finally {
             lock.unlock();
@@ -344,7 +344,8 @@ public class SelectBox<T> extends Component {
                 selectBoxElements.remove(index);
                 selectionListPanel.getContainer().remove(element);
                 for (int i = index; i < selectBoxElements.size(); i++) {
-                    selectBoxElements.get(i).getPosition().y -= elementHeight;
+                    SelectBoxElement<T> boxElement = selectBoxElements.get(i);
+                    boxElement.setPosition(boxElement.getPosition().x, boxElement.getPosition().y - elementHeight);
                 }
                 if (selectedElement == s) {
                     setSelected(0, true);
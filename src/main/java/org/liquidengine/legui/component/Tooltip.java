@@ -4,7 +4,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.optional.TextState;
 import org.liquidengine.legui.theme.Themes;
 
@@ -73,6 +73,7 @@ public class Tooltip extends AbstractTextComponent {
         }
         // set new component
         this.component = component;
+        invalidateBounds();
         // bind this tooltip to component
         if (component != null) {
             component.setTooltip(this);
@@ -81,18 +82,13 @@ public class Tooltip extends AbstractTextComponent {
     }
 
     /**
-     * Returns absolute component position.
+     * Returns absolute position of the component for which specified this tooltip. Tooltip position is relative to it.
      *
-     * @return position vector.
+     * @return absolute position of component or null if tooltip is not bound to component.
      */
     @Override
-    public Vector2f getAbsolutePosition() {
-        Vector2f position = new Vector2f(getPosition());
-        if (component != null) {
-            position.add(component.getAbsolutePosition());
-        }
-        return position;
-
+    protected Vector2fc getPositionOrigin() {
+        return component == null ? null : component.getAbsolutePositionView();
     }
 
     @Override
@@ -592,8 +592,7 @@ public class Widget extends Component {
      */
     private void minimize() {
         if (isTitleEnabled()) {
-            Vector2f size = getSize();
-            maximizedSize.set(size);
+            maximizedSize.set(getSize());
 
             maximizedMinWidth = getStyle().getMinWidth();
             maximizedMinHeight = getStyle().getMinHeight();
@@ -603,7 +602,7 @@ public class Widget extends Component {
             maximizedHeight = getStyle().getHeight();
 
             float titleHeight = getTitleHeight();
-            size.set(size.x, titleHeight);
+            setSize(maximizedSize.x, titleHeight);
 
             this.getStyle().setMaxHeight(titleHeight);
             this.getStyle().setHeight(titleHeight);
@@ -621,7 +620,7 @@ public class Widget extends Component {
     private void maximize() {
         if (isTitleEnabled()) {
 
-            this.getSize().set(maximizedSize);
+            this.setSize(maximizedSize.x, maximizedSize.y);
 
             this.getStyle().setMaxWidth(maximizedMaxWidth);
             this.getStyle().setMaxHeight(maximizedMaxHeight);
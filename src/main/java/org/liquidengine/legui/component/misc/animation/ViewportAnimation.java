@@ -108,4 +108,17 @@ public abstract class ViewportAnimation<T extends Component> extends Animation {
     private double easeInQuad(double t) {
         return t * t;
     }
+
+    @Override
+    public T getComponent() {
+        return componentReference.get();
+    }
+
+    /**
+     * {@inheritDoc} Container is moved through its position setter.
+     */
+    @Override
+    public boolean isPassive() {
+        return true;
+    }
 }
@@ -53,4 +53,17 @@ public class ScrollBarAnimation extends Animation {
 
         return false;
     }
+
+    @Override
+    public ScrollBar getComponent() {
+        return scrollBar.get();
+    }
+
+    /**
+     * {@inheritDoc} Visible amount is updated through {@link ScrollBar#setVisibleAmount(float)}.
+     */
+    @Override
+    public boolean isPassive() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package org.liquidengine.legui.component.misc.animation.selectbox;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.animation.Animation;
 import org.liquidengine.legui.component.SelectBox;
 import org.liquidengine.legui.component.SelectBox.SelectBoxScrollablePanel;
@@ -56,21 +57,34 @@ public class SelectBoxAnimation extends Animation {
         Vector2f size = selectBox.getSize();
         Vector2f wsize = new Vector2f(size.x, visibleCount * elementHeight);
         Vector2f wpos = new Vector2f();
-        Vector2f sbPos = selectBox.getAbsolutePosition();
+        Vector2fc sbPos = selectBox.getAbsolutePositionView();
         Vector2f pSize = selectBox.getSelectBoxLayer().getSize();
 
-        if (sbPos.y + wsize.y + size.y > pSize.y && sbPos.y - wsize.y > 0) {
-            wpos.set(sbPos.x, sbPos.y - wsize.y);
+        if (sbPos.y() + wsize.y + size.y > pSize.y && sbPos.y() - wsize.y > 0) {
+            wpos.set(sbPos.x(), sbPos.y() - wsize.y);
         } else {
-            wpos.set(sbPos.x, sbPos.y + size.y);
+            wpos.set(sbPos.x(), sbPos.y() + size.y);
         }
 
         selectionListPanel.setSize(wsize);
         selectionListPanel.setPosition(wpos);
-        selectionListPanel.getContainer().getSize().y = selectionListPanel.getContainer().count() * elementHeight;
-        selectionListPanel.getContainer().getSize().x = size.x - selectionListPanel.getVerticalScrollBar().getSize().x;
+        selectionListPanel.getContainer().setSize(size.x - selectionListPanel.getVerticalScrollBar().getSize().x,
+            selectionListPanel.getContainer().count() * elementHeight);
 
         deltaSum = 0;
         return false;
     }
+
+    @Override
+    public SelectBox getComponent() {
+        return selectBox.get();
+    }
+
+    /**
+     * {@inheritDoc} Selection list panel is moved and resized through its position and size setters.
+     */
+    @Override
+    public boolean isPassive() {
+        return true;
+    }
 }
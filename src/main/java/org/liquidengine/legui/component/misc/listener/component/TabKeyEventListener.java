@@ -15,7 +15,21 @@ import java.util.List;
  */
 public class TabKeyEventListener implements EventListener<KeyEvent> {
 
-    private Comparator<? super Component> comparator = Comparator.comparingInt((Component::getTabIndex));
+    private static final Comparator<? super Component> COMPARATOR = Comparator.comparingInt((Component::getTabIndex));
+
+    /**
+     * Shared instance. The next focused component is searched from the event target on every key event, so one instance serves every component.
+     */
+    private static final TabKeyEventListener INSTANCE = new TabKeyEventListener();
+
+    /**
+     * Returns shared instance of listener.
+     *
+     * @return shared instance of listener.
+     */
+    public static TabKeyEventListener getInstance() {
+        return INSTANCE;
+    }
 
     /**
      * Used to handle specific event.
@@ -74,7 +88,7 @@ public class TabKeyEventListener implements EventListener<KeyEvent> {
         }
 
         List<Component> childComponents = parent.getChildComponents();
-        childComponents.sort(comparator);
+        childComponents.sort(COMPARATOR);
         Collections.reverse(childComponents);
 
         int index = childComponents.indexOf(component);
@@ -115,7 +129,7 @@ public class TabKeyEventListener implements EventListener<KeyEvent> {
      */
     private Component findPrevInChildComponents(List<Component> childComponents, Component previous) {
         Component previousComponent = previous;
-        childComponents.sort(comparator);
+        childComponents.sort(COMPARATOR);
         Collections.reverse(childComponents);
         for (Component child : childComponents) {
             if (!child.isVisible()) {
@@ -172,7 +186,7 @@ public class TabKeyEventListener implements EventListener<KeyEvent> {
             return next;
         }
 
-        childComponents.sort(comparator);
+        childComponents.sort(COMPARATOR);
 
         for (Component child : childComponents) {
             if (!child.isVisible()) {
@@ -205,7 +219,7 @@ public class TabKeyEventListener implements EventListener<KeyEvent> {
         }
 
         List<Component> childComponents = parent.getChildComponents();
-        childComponents.sort(comparator);
+        childComponents.sort(COMPARATOR);
 
         int index = childComponents.indexOf(component);
         if (index != childComponents.size() - 1) {
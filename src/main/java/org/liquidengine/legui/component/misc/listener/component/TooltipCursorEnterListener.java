@@ -10,6 +10,20 @@ import org.liquidengine.legui.listener.CursorEnterEventListener;
  */
 public class TooltipCursorEnterListener implements CursorEnterEventListener {
 
+    /**
+     * Shared instance. The tooltip is read from the target component of each event, so one instance serves every component.
+     */
+    private static final TooltipCursorEnterListener INSTANCE = new TooltipCursorEnterListener();
+
+    /**
+     * Returns shared instance of listener.
+     *
+     * @return shared instance of listener.
+     */
+    public static TooltipCursorEnterListener getInstance() {
+        return INSTANCE;
+    }
+
     /**
      * Used to process {@link CursorEnterEvent}.
      *
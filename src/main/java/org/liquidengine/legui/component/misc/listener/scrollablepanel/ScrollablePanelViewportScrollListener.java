@@ -1,13 +1,11 @@
 package org.liquidengine.legui.component.misc.listener.scrollablepanel;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.ScrollablePanel;
 import org.liquidengine.legui.event.ScrollEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.ScrollEventListener;
 
-import static org.liquidengine.legui.component.misc.listener.EventUtils.hasScrollableInChildComponentsUnderCursor;
 import static org.liquidengine.legui.component.misc.listener.EventUtils.hasViewportsInAboveLayersUnderCursor;
 import static org.liquidengine.legui.component.misc.listener.scrollbar.ScrollBarHelper.updateScrollBarValue;
 
@@ -23,18 +21,19 @@ public class ScrollablePanelViewportScrollListener implements ScrollEventListene
      */
     @Override
     public void process(ScrollEvent event) {
-        Vector2f cursorPosition = Mouse.getCursorPosition();
-        Component targetComponent = event.getTargetComponent();
+        Vector2fc cursorPosition = event.getContext().getMouseState().getCursorPosition();
+        Component viewport = event.getCurrentTarget();
 
-        if (hasViewportsInAboveLayersUnderCursor(targetComponent, cursorPosition)) return;
-        if (hasScrollableInChildComponentsUnderCursor(targetComponent, cursorPosition)) return;
+        if (hasViewportsInAboveLayersUnderCursor(viewport, cursorPosition)) return;
 
-        ScrollablePanel scrollablePanel = (ScrollablePanel) targetComponent.getParent();
+        ScrollablePanel scrollablePanel = (ScrollablePanel) viewport.getParent();
 
         if (Math.abs(event.getYoffset()) > 0)
             updateScrollBarValue(event.getYoffset(), event.getContext(), event.getFrame(), scrollablePanel.getVerticalScrollBar());
         if (Math.abs(event.getXoffset()) > 0)
             updateScrollBarValue(event.getXoffset(), event.getContext(), event.getFrame(), scrollablePanel.getHorizontalScrollBar());
+        // nested scrollable components stop propagation too, so only the innermost one is scrolled
+        event.stopPropagation();
     }
 
 }
@@ -1,13 +1,13 @@
 package org.liquidengine.legui.component.misc.listener.scrollbar;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.component.ScrollBar;
 import org.liquidengine.legui.component.event.scrollbar.ScrollBarChangeValueEvent;
 import org.liquidengine.legui.component.optional.Orientation;
 import org.liquidengine.legui.event.Event;
 import org.liquidengine.legui.event.MouseClickEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.MouseClickEventListener;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
@@ -32,8 +32,8 @@ public class ScrollBarMouseClickEventListener implements MouseClickEventListener
             return;
         }
 
-        Vector2f pos = scrollBar.getAbsolutePosition();
-        Vector2f cursorPosition = Mouse.getCursorPosition();
+        Vector2fc pos = scrollBar.getAbsolutePositionView();
+        Vector2fc cursorPosition = event.getContext().getMouseState().getCursorPosition();
 
         float visibleAmount = scrollBar.getVisibleAmount();
         boolean vertical = Orientation.VERTICAL.equals(scrollBar.getOrientation());
@@ -61,11 +61,11 @@ public class ScrollBarMouseClickEventListener implements MouseClickEventListener
         float curPos;
         float newVal;
         if (vertical) {
-            left = pos.y + scrollPosAccordingToScrollBounds + arrowSize;
-            curPos = cursorPosition.y;
+            left = pos.y() + scrollPosAccordingToScrollBounds + arrowSize;
+            curPos = cursorPosition.y();
         } else {
-            left = pos.x + scrollPosAccordingToScrollBounds + arrowSize;
-            curPos = cursorPosition.x;
+            left = pos.x() + scrollPosAccordingToScrollBounds + arrowSize;
+            curPos = cursorPosition.x();
         }
         if (curPos < left) {
             newVal = curValue - 0.5f * visibleAmount * valueRange / (valueRange - visibleAmount);
@@ -1,11 +1,11 @@
 package org.liquidengine.legui.component.misc.listener.scrollbar;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.ScrollBar;
 import org.liquidengine.legui.component.event.scrollbar.ScrollBarChangeValueEvent;
 import org.liquidengine.legui.component.optional.Orientation;
 import org.liquidengine.legui.event.MouseDragEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.MouseDragEventListener;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 
@@ -22,12 +22,12 @@ public class ScrollBarMouseDragEventListener implements MouseDragEventListener {
         if (!scrollBar.isScrolling()) {
             return;
         }
-        if (!MOUSE_BUTTON_LEFT.isPressed()) {
+        if (!event.getContext().getMouseState().isPressed(MOUSE_BUTTON_LEFT)) {
             return;
         }
 
-        Vector2f pos = scrollBar.getAbsolutePosition();
-        Vector2f cursorPosition = Mouse.getCursorPosition();
+        Vector2fc pos = scrollBar.getAbsolutePositionView();
+        Vector2fc cursorPosition = event.getContext().getMouseState().getCursorPosition();
 
         float visibleAmount = scrollBar.getVisibleAmount();
         boolean vertical = Orientation.VERTICAL.equals(scrollBar.getOrientation());
@@ -51,11 +51,11 @@ public class ScrollBarMouseDragEventListener implements MouseDragEventListener {
         float curPos;
         float dpos;
         if (vertical) {
-            dpos = pos.y;
-            curPos = cursorPosition.y;
+            dpos = pos.y();
+            curPos = cursorPosition.y();
         } else {
-            dpos = pos.x;
-            curPos = cursorPosition.x;
+            dpos = pos.x();
+            curPos = cursorPosition.x();
         }
         float newVal = valueRange * (curPos - (dpos + arrowSize + barSize / 2f)) / (scrollBarSize - barSize);
         if (newVal > maxValue) {
@@ -1,11 +1,10 @@
 package org.liquidengine.legui.component.misc.listener.scrollbar;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.ScrollBar;
 import org.liquidengine.legui.component.event.scrollbar.ScrollBarChangeValueEvent;
 import org.liquidengine.legui.event.ScrollEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.ScrollEventListener;
 
 import static org.liquidengine.legui.component.misc.listener.EventUtils.hasViewportsInAboveLayersUnderCursor;
@@ -17,8 +16,8 @@ import static org.liquidengine.legui.component.misc.listener.scrollbar.ScrollBar
 public class ScrollBarScrollListener implements ScrollEventListener {
 
     public void process(ScrollEvent event) {
-        Vector2f cursorPosition = Mouse.getCursorPosition();
-        Component targetComponent = event.getTargetComponent();
+        Vector2fc cursorPosition = event.getContext().getMouseState().getCursorPosition();
+        Component targetComponent = event.getCurrentTarget();
         if (hasViewportsInAboveLayersUnderCursor(targetComponent, cursorPosition)) return;
 
         ScrollBar scrollBar = (ScrollBar) targetComponent;
@@ -27,5 +26,6 @@ public class ScrollBarScrollListener implements ScrollEventListener {
             updateScrollBarValue(event.getYoffset(), event.getContext(), event.getFrame(), scrollBar);
         else if (Math.abs(event.getXoffset()) > 0)
             updateScrollBarValue(event.getXoffset(), event.getContext(), event.getFrame(), scrollBar);
+        event.stopPropagation();
     }
 }
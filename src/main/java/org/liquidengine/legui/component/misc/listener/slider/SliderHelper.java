@@ -1,6 +1,6 @@
 package org.liquidengine.legui.component.misc.listener.slider;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Slider;
 import org.liquidengine.legui.component.optional.Orientation;
 
@@ -17,17 +17,17 @@ final class SliderHelper {
 	 * @param mousePosition the position of the mouse cursor
 	 * @return the sliders new value
 	 */
-	static float determineSliderValue(Slider slider, Vector2f mousePosition) {
-		Vector2f pos = slider.getAbsolutePosition();
+	static float determineSliderValue(Slider slider, Vector2fc mousePosition) {
+		Vector2fc pos = slider.getAbsolutePositionView();
 		float sliderSize = slider.getSliderSize();
 		float minValue = slider.getMinValue();
 		float maxValue = slider.getMaxValue();
 		float difference = maxValue - minValue;
 		float percentage;
 		if (Orientation.VERTICAL.equals(slider.getOrientation())) {
-			percentage = (mousePosition.y - pos.y - sliderSize / 2f) / (slider.getSize().y - sliderSize);
+			percentage = (mousePosition.y() - pos.y() - sliderSize / 2f) / (slider.getSize().y - sliderSize);
 		} else {
-			percentage = (mousePosition.x - pos.x - sliderSize / 2f) / (slider.getSize().x - sliderSize);
+			percentage = (mousePosition.x() - pos.x() - sliderSize / 2f) / (slider.getSize().x - sliderSize);
 		}
         float value = difference * percentage + minValue;
 		// check for min/max values
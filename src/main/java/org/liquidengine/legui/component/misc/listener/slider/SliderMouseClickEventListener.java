@@ -19,7 +19,7 @@ public class SliderMouseClickEventListener implements MouseClickEventListener {
         }
         Slider slider = (Slider) event.getTargetComponent();
         // calculate new value
-        float value = SliderHelper.determineSliderValue(slider, Mouse.getCursorPosition());
+        float value = SliderHelper.determineSliderValue(slider, event.getContext().getMouseState().getCursorPosition());
         // set value & push event
         float oldValue = slider.getValue();
         slider.setValue(value);
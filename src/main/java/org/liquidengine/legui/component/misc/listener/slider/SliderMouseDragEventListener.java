@@ -15,11 +15,11 @@ public class SliderMouseDragEventListener implements MouseDragEventListener {
     @Override
     public void process(MouseDragEvent event) {
         Slider slider = (Slider) event.getTargetComponent();
-        if (!Mouse.MouseButton.MOUSE_BUTTON_LEFT.isPressed()) {
+        if (!event.getContext().getMouseState().isPressed(Mouse.MouseButton.MOUSE_BUTTON_LEFT)) {
             return;
         }
         // calculate new value
-        float value = SliderHelper.determineSliderValue(slider, Mouse.getCursorPosition());
+        float value = SliderHelper.determineSliderValue(slider, event.getContext().getMouseState().getCursorPosition());
         // set value & push event
         float oldValue = slider.getValue();
         slider.setValue(value);
@@ -13,7 +13,7 @@ public class SliderScrollEventListener implements ScrollEventListener {
 
     @Override
     public void process(ScrollEvent event) {
-        Slider slider = (Slider) event.getTargetComponent();
+        Slider slider = (Slider) event.getCurrentTarget();
         float oldValue = slider.getValue();
         float newValue = oldValue;
         // respect step size
@@ -34,5 +34,6 @@ public class SliderScrollEventListener implements ScrollEventListener {
         EventProcessorProvider.getInstance().pushEvent(
                 new SliderChangeValueEvent(slider, event.getContext(), event.getFrame(), oldValue, newValue)
         );
+        event.stopPropagation();
     }
 }
@@ -29,8 +29,8 @@ public class CopyTextEventListener implements EventListener<KeyboardEvent>  {
         }
 
         KeyCode copyKey = Keyboard.getCopyShortcut().getKey();
-        KeyCode keyCode = event.getKey().getKeyCode();
-        if (event.getMods().contains(KeyMod.CONTROL)
+        KeyCode keyCode = event.getKeyCode();
+        if (event.isModPressed(KeyMod.CONTROL)
                 && (copyKey != null && keyCode == copyKey || keyCode == KEY_C)) {
             TextComponentShortcutUtil.copy((TextComponent) event.getTargetComponent());
         }
@@ -24,8 +24,8 @@ public abstract class CutTextEventListener {
         }
 
         KeyCode cutKey = Keyboard.getCutShortcut().getKey();
-        KeyCode keyCode = event.getKey().getKeyCode();
-        if (event.getMods().contains(KeyMod.CONTROL)
+        KeyCode keyCode = event.getKeyCode();
+        if (event.isModPressed(KeyMod.CONTROL)
                 && (cutKey != null && keyCode == cutKey || keyCode == KEY_X)) {
             cut((TextComponent) event.getTargetComponent(), eventGenerator);
         }
@@ -30,8 +30,8 @@ public abstract class PasteTextEventListener {
         }
 
         KeyCode pasteKey = Keyboard.getPasteShortcut().getKey();
-        KeyCode keyCode = event.getKey().getKeyCode();
-        if (event.getMods().contains(KeyMod.CONTROL)
+        KeyCode keyCode = event.getKeyCode();
+        if (event.isModPressed(KeyMod.CONTROL)
                 && (pasteKey != null && keyCode == pasteKey || keyCode == KEY_V))
             paste((TextComponent) event.getTargetComponent(), eventGenerator);
     }
@@ -30,8 +30,8 @@ public class SelectAllTextEventListener implements EventListener<KeyboardEvent>
         }
 
         KeyCode selectAllKey = Keyboard.getSelectAllShortcut().getKey();
-        KeyCode keyCode = event.getKey().getKeyCode();
-        if (event.getMods().contains(KeyMod.CONTROL)
+        KeyCode keyCode = event.getKeyCode();
+        if (event.isModPressed(KeyMod.CONTROL)
                 && (selectAllKey != null && keyCode == selectAllKey || keyCode == KEY_A)) {
             TextState textState = gui.getTextState();
             gui.getTextState().setStartSelectionIndex(0);
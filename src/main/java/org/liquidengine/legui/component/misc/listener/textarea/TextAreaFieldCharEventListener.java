@@ -23,7 +23,7 @@ public class TextAreaFieldCharEventListener implements CharEventListener {
     @Override
     public void process(CharEvent event) {
         TextAreaField textAreaField = (TextAreaField) event.getTargetComponent();
-        if (textAreaField.isFocused() && textAreaField.isEditable() && !MOUSE_BUTTON_LEFT.isPressed()) {
+        if (textAreaField.isFocused() && textAreaField.isEditable() && !event.getContext().getMouseState().isPressed(MOUSE_BUTTON_LEFT)) {
             String str = cpToStr(event.getCodepoint());
             TextState textState = textAreaField.getTextState();
             int start = textAreaField.getStartSelectionIndex();
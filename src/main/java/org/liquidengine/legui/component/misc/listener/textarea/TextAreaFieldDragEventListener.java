@@ -21,7 +21,7 @@ public class TextAreaFieldDragEventListener implements MouseDragEventListener {
     @Override
     public void process(MouseDragEvent event) {
         TextAreaField textAreaField = (TextAreaField) event.getTargetComponent();
-        if (MOUSE_BUTTON_LEFT.isPressed()) {
+        if (event.getContext().getMouseState().isPressed(MOUSE_BUTTON_LEFT)) {
             int mouseCaretPosition = textAreaField.getMouseCaretPosition();
             textAreaField.setCaretPosition(mouseCaretPosition);
             textAreaField.setEndSelectionIndex(mouseCaretPosition);
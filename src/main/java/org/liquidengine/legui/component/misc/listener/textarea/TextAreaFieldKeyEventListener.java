@@ -12,8 +12,6 @@ import org.liquidengine.legui.input.KeyMod;
 import org.liquidengine.legui.listener.EventListener;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 
-import java.util.Set;
-
 import static org.liquidengine.legui.util.TextUtil.findNextWord;
 import static org.liquidengine.legui.util.TextUtil.findPrevWord;
 
@@ -29,7 +27,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
      */
     @Override
     public void process(KeyboardEvent event) {
-        KeyCode keyCode = event.getKey().getKeyCode();
+        KeyCode keyCode = event.getKeyCode();
         if (keyCode == KeyCode.LEFT_SHIFT
             || keyCode == KeyCode.RIGHT_SHIFT
             || keyCode == KeyCode.LEFT_CONTROL
@@ -60,8 +58,8 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
     }
 
     private void processKey(TextAreaField textAreaField, KeyboardEvent<?> event) {
-        KeyCode key = event.getKey().getKeyCode();
-        Set<KeyMod> mods = event.getMods();
+        KeyCode key = event.getKeyCode();
+        int mods = event.getModMask();
         if (key == KeyCode.LEFT) {
             keyLeftAction(textAreaField, mods);
         } else if (key == KeyCode.RIGHT) {
@@ -91,8 +89,8 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
      * @param textAreaField text area to work with.
      * @param mods          key mods.
      */
-    private void addTab(TextAreaField textAreaField, Set<KeyMod> mods) {
-        if (mods.contains(KeyMod.CONTROL)) {
+    private void addTab(TextAreaField textAreaField, int mods) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             return;
         }
         if (textAreaField.isEditable()) {
@@ -114,7 +112,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
      * @param gui  gui to remove data from text state.
      * @param mods key mods.
      */
-    private void keyDeleteAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyDeleteAction(TextAreaField gui, int mods) {
         if (gui.isEditable()) {
             TextState textState = gui.getTextState();
             int caretPosition = gui.getCaretPosition();
@@ -125,7 +123,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
                 end = gui.getStartSelectionIndex();
             }
             if (start == end && caretPosition != textState.length()) {
-                if (mods.contains(KeyMod.CONTROL)) {
+                if (KeyMod.CONTROL.isSet(mods)) {
                     end = findNextWord(textState.getText(), caretPosition);
                     StringBuilder builder = new StringBuilder(textState.getText());
                     builder.delete(start, end);
@@ -158,7 +156,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
      * @param gui  gui to remove text data.
      * @param mods key mods.
      */
-    private void keyBackSpaceAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyBackSpaceAction(TextAreaField gui, int mods) {
         if (gui.isEditable()) {
             TextState textState = gui.getTextState();
             int caretPosition = gui.getCaretPosition();
@@ -169,7 +167,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
                 end = gui.getStartSelectionIndex();
             }
             if (start == end && caretPosition != 0) {
-                if (mods.contains(KeyMod.CONTROL)) {
+                if (KeyMod.CONTROL.isSet(mods)) {
                     start = findPrevWord(textState.getText(), caretPosition);
                     StringBuilder builder = new StringBuilder(textState.getText());
                     builder.delete(start, end);
@@ -232,7 +230,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         }
     }
 
-    private void keyEndAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyEndAction(TextAreaField gui, int mods) {
         TextState textState = gui.getTextState();
         int caretPosition = gui.getCaretPosition();
 
@@ -243,7 +241,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         int delta = cl - currentLine.caretPositionInLine;
 
         int newCaretPosition;
-        if (mods.contains(KeyMod.CONTROL)) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             newCaretPosition = text.length();
         } else {
             newCaretPosition = caretPosition + delta;
@@ -252,7 +250,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         updateIndices(gui, mods, newCaretPosition);
     }
 
-    private void keyHomeAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyHomeAction(TextAreaField gui, int mods) {
         TextState textState = gui.getTextState();
         int caretPosition = gui.getCaretPosition();
         String text = textState.getText();
@@ -260,7 +258,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         LineData some = getStartLineIndexAndLineNumber(lines, caretPosition);
 
         int newCaretPosition;
-        if (mods.contains(KeyMod.CONTROL)) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             newCaretPosition = 0;
         } else {
             newCaretPosition = caretPosition - some.caretPositionInLine;
@@ -269,7 +267,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         updateIndices(gui, mods, newCaretPosition);
     }
 
-    private void keyDownAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyDownAction(TextAreaField gui, int mods) {
         TextState textState = gui.getTextState();
         int caretPosition = gui.getCaretPosition();
         if (caretPosition < textState.length()) {
@@ -294,7 +292,7 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         }
     }
 
-    private void keyUpAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyUpAction(TextAreaField gui, int mods) {
         int caretPosition = gui.getCaretPosition();
         if (caretPosition > 0) {
             TextState textState = gui.getTextState();
@@ -314,12 +312,12 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         }
     }
 
-    private void keyRightAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyRightAction(TextAreaField gui, int mods) {
         TextState textState = gui.getTextState();
         int caretPosition = gui.getCaretPosition();
 
         int newCaretPosition;
-        if (mods.contains(KeyMod.CONTROL)) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             newCaretPosition = findNextWord(gui.getTextState().getText(), caretPosition);
         } else {
             newCaretPosition = caretPosition + 1;
@@ -332,11 +330,11 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         updateIndices(gui, mods, newCaretPosition);
     }
 
-    private void keyLeftAction(TextAreaField gui, Set<KeyMod> mods) {
+    private void keyLeftAction(TextAreaField gui, int mods) {
         int caretPosition = gui.getCaretPosition();
 
         int newCaretPosition;
-        if (mods.contains(KeyMod.CONTROL)) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             newCaretPosition = findPrevWord(gui.getTextState().getText(), caretPosition);
         } else {
             newCaretPosition = caretPosition - 1;
@@ -349,8 +347,8 @@ public class TextAreaFieldKeyEventListener implements EventListener<KeyboardEven
         updateIndices(gui, mods, newCaretPosition);
     }
 
-    private void updateIndices(TextAreaField gui, Set<KeyMod> mods, int newCaretPosition) {
-        if (!mods.contains(KeyMod.SHIFT)) {
+    private void updateIndices(TextAreaField gui, int mods, int newCaretPosition) {
+        if (!KeyMod.SHIFT.isSet(mods)) {
             gui.setStartSelectionIndex(newCaretPosition);
         }
 
@@ -1,17 +1,12 @@
 package org.liquidengine.legui.component.misc.listener.textarea;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Component;
-import org.liquidengine.legui.component.ScrollablePanel;
 import org.liquidengine.legui.component.TextArea;
 import org.liquidengine.legui.component.TextAreaField;
 import org.liquidengine.legui.event.ScrollEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.ScrollEventListener;
-import org.liquidengine.legui.system.handler.SehUtil;
-
-import java.util.ArrayList;
 
 import static org.liquidengine.legui.component.misc.listener.EventUtils.hasViewportsInAboveLayersUnderCursor;
 import static org.liquidengine.legui.component.misc.listener.scrollbar.ScrollBarHelper.updateScrollBarValue;
@@ -30,20 +25,12 @@ public class TextAreaViewportScrollListener implements ScrollEventListener {
      */
     @Override
     public void process(ScrollEvent event) {
-        Vector2f cursorPosition = Mouse.getCursorPosition();
-        Component targetComponent = event.getTargetComponent();
-
-        if (hasViewportsInAboveLayersUnderCursor(targetComponent, cursorPosition)) return;
+        Vector2fc cursorPosition = event.getContext().getMouseState().getCursorPosition();
+        Component viewport = event.getCurrentTarget();
 
-        ArrayList<Component> targetList = new ArrayList<>();
-        SehUtil.recursiveTargetComponentListSearch(Mouse.getCursorPosition(), event.getTargetComponent(), targetList);
-        for (Component component : targetList) {
-            if ((component instanceof TextArea) || (component instanceof ScrollablePanel)) {
-                return;
-            }
-        }
+        if (hasViewportsInAboveLayersUnderCursor(viewport, cursorPosition)) return;
 
-        TextArea textArea = (TextArea) event.getTargetComponent().getParent();
+        TextArea textArea = (TextArea) viewport.getParent();
 
         TextAreaField textAreaField = textArea.getTextAreaField();
         Vector4f padding = getPadding(textAreaField, textAreaField.getStyle());
@@ -61,5 +48,6 @@ public class TextAreaViewportScrollListener implements ScrollEventListener {
             updateScrollBarValue(event.getYoffset(), event.getContext(), event.getFrame(), textArea.getVerticalScrollBar());
         if (Math.abs(event.getXoffset()) > 0)
             updateScrollBarValue(event.getXoffset(), event.getContext(), event.getFrame(), textArea.getHorizontalScrollBar());
+        event.stopPropagation();
     }
 }
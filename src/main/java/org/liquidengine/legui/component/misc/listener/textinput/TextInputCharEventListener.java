@@ -23,7 +23,7 @@ public class TextInputCharEventListener implements CharEventListener {
     @Override
     public void process(CharEvent event) {
         TextInput textInput = (TextInput) event.getTargetComponent();
-        if (textInput.isFocused() && textInput.isEditable() && !MOUSE_BUTTON_LEFT.isPressed()) {
+        if (textInput.isFocused() && textInput.isEditable() && !event.getContext().getMouseState().isPressed(MOUSE_BUTTON_LEFT)) {
             String str = cpToStr(event.getCodepoint());
             TextState textState = textInput.getTextState();
             String oldText = textState.getText();
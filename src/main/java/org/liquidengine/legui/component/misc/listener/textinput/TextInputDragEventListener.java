@@ -14,7 +14,7 @@ public class TextInputDragEventListener implements MouseDragEventListener {
     @Override
     public void process(MouseDragEvent event) {
         TextInput textInput = (TextInput) event.getTargetComponent();
-        if (MOUSE_BUTTON_LEFT.isPressed()) {
+        if (event.getContext().getMouseState().isPressed(MOUSE_BUTTON_LEFT)) {
             int mouseCaretPosition = textInput.getMouseCaretPosition();
             textInput.setCaretPosition(mouseCaretPosition);
             textInput.setEndSelectionIndex(mouseCaretPosition);
@@ -11,8 +11,6 @@ import org.liquidengine.legui.input.KeyMod;
 import org.liquidengine.legui.listener.EventListener;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 
-import java.util.Set;
-
 import static org.liquidengine.legui.input.KeyCode.*;
 import static org.liquidengine.legui.util.TextUtil.findNextWord;
 import static org.liquidengine.legui.util.TextUtil.findPrevWord;
@@ -46,8 +44,8 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
 
     private void processKeys(KeyboardEvent<?> event, TextInput gui) {
 
-        Set<KeyMod> mods = event.getMods();
-        KeyCode key = event.getKey().getKeyCode();
+        int mods = event.getModMask();
+        KeyCode key = event.getKeyCode();
         if (key == LEFT) {
 
             keyLeftAction(gui, mods);
@@ -70,7 +68,7 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
      * @param gui  gui to remove data from text state.
      * @param mods key mods.
      */
-    private void keyDeleteAction(TextInput gui, Set<KeyMod> mods) {
+    private void keyDeleteAction(TextInput gui, int mods) {
         if (gui.isEditable()) {
             TextState textState = gui.getTextState();
             int caretPosition = gui.getCaretPosition();
@@ -81,7 +79,7 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
                 end = gui.getStartSelectionIndex();
             }
             if (start == end && caretPosition != textState.length()) {
-                if (mods.contains(KeyMod.CONTROL)) {
+                if (KeyMod.CONTROL.isSet(mods)) {
                     end = findNextWord(textState.getText(), caretPosition);
                     StringBuilder builder = new StringBuilder(textState.getText());
                     builder.delete(start, end);
@@ -114,7 +112,7 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
      * @param gui  gui to remove text data.
      * @param mods key mods.
      */
-    private void keyBackSpaceAction(TextInput gui, Set<KeyMod> mods) {
+    private void keyBackSpaceAction(TextInput gui, int mods) {
         if (gui.isEditable()) {
             TextState textState = gui.getTextState();
             int caretPosition = gui.getCaretPosition();
@@ -125,7 +123,7 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
                 end = gui.getStartSelectionIndex();
             }
             if (start == end && caretPosition != 0) {
-                if (mods.contains(KeyMod.CONTROL)) {
+                if (KeyMod.CONTROL.isSet(mods)) {
                     start = findPrevWord(textState.getText(), caretPosition);
                     StringBuilder builder = new StringBuilder(textState.getText());
                     builder.delete(start, end);
@@ -153,26 +151,26 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
         }
     }
 
-    private void keyDownAndEndAction(TextInput gui, Set<KeyMod> mods) {
+    private void keyDownAndEndAction(TextInput gui, int mods) {
         int newCaretPosition = gui.getTextState().length();
         gui.setEndSelectionIndex(newCaretPosition);
-        if (!mods.contains(KeyMod.SHIFT)) {
+        if (!KeyMod.SHIFT.isSet(mods)) {
             gui.setStartSelectionIndex(newCaretPosition);
         }
         gui.setCaretPosition(newCaretPosition);
 
     }
 
-    private void keyUpAndHomeAction(TextInput gui, Set<KeyMod> mods) {
+    private void keyUpAndHomeAction(TextInput gui, int mods) {
         int newCaretPosition = 0;
         gui.setEndSelectionIndex(newCaretPosition);
-        if (!mods.contains(KeyMod.SHIFT)) {
+        if (!KeyMod.SHIFT.isSet(mods)) {
             gui.setStartSelectionIndex(newCaretPosition);
         }
         gui.setCaretPosition(newCaretPosition);
     }
 
-    private void keyRightAction(TextInput gui, Set<KeyMod> mods) {
+    private void keyRightAction(TextInput gui, int mods) {
         TextState textState = gui.getTextState();
         int caretPosition = gui.getCaretPosition();
         int newCaretPosition = caretPosition + 1;
@@ -180,31 +178,31 @@ public class TextInputKeyEventListener implements EventListener<KeyboardEvent> {
         if (newCaretPosition >= textState.length()) {
             newCaretPosition = textState.length();
         }
-        if (mods.contains(KeyMod.CONTROL)) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             newCaretPosition = findNextWord(gui.getTextState().getText(), caretPosition);
         }
 
         gui.setEndSelectionIndex(newCaretPosition);
 
-        if (!mods.contains(KeyMod.SHIFT)) {
+        if (!KeyMod.SHIFT.isSet(mods)) {
             gui.setStartSelectionIndex(newCaretPosition);
         }
 
         gui.setCaretPosition(newCaretPosition);
     }
 
-    private void keyLeftAction(TextInput gui, Set<KeyMod> mods) {
+    private void keyLeftAction(TextInput gui, int mods) {
         int caretPosition = gui.getCaretPosition();
         int newCaretPosition = caretPosition - 1;
         // reset if out of bounds.
         if (newCaretPosition <= 0) {
             newCaretPosition = 0;
         }
-        if (mods.contains(KeyMod.CONTROL)) {
+        if (KeyMod.CONTROL.isSet(mods)) {
             newCaretPosition = findPrevWord(gui.getTextState().getText(), caretPosition);
         }
         gui.setEndSelectionIndex(newCaretPosition);
-        if (!mods.contains(KeyMod.SHIFT)) {
+        if (!KeyMod.SHIFT.isSet(mods)) {
             gui.setStartSelectionIndex(newCaretPosition);
         }
         gui.setCaretPosition(newCaretPosition);
@@ -24,7 +24,7 @@ public class WidgetDragListener implements MouseDragEventListener {
     @Override
     public void process(MouseDragEvent event) {
         Vector2f oldPos = new Vector2f(widget.getPosition());
-        widget.getPosition().add(event.getDelta());
+        widget.setPosition(oldPos.x + event.getDelta().x, oldPos.y + event.getDelta().y);
         Vector2f newPos = widget.getPosition();
         if (!oldPos.equals(newPos, THRESHOLD)) {
             EventProcessorProvider.getInstance().pushEvent(new ChangePositionEvent(widget, event.getContext(), event.getFrame(), oldPos, newPos));
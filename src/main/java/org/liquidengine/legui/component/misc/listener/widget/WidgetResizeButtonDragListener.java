@@ -1,11 +1,12 @@
 package org.liquidengine.legui.component.misc.listener.widget;
 
 import org.joml.Vector2f;
+import org.liquidengine.legui.input.MouseState;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Button;
 import org.liquidengine.legui.component.Widget;
 import org.liquidengine.legui.component.event.component.ChangeSizeEvent;
 import org.liquidengine.legui.event.MouseDragEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.MouseDragEventListener;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.style.length.Length;
@@ -36,8 +37,9 @@ public class WidgetResizeButtonDragListener implements MouseDragEventListener {
     public void process(MouseDragEvent event) {
         Vector2f delta = event.getDelta();
 
-        Vector2f cursorPositionPrev = Mouse.getCursorPositionPrev();
-        Vector2f cursorPosition = Mouse.getCursorPosition();
+        MouseState mouseState = event.getContext().getMouseState();
+        Vector2fc cursorPositionPrev = mouseState.getCursorPositionPrev();
+        Vector2fc cursorPosition = mouseState.getCursorPosition();
 
         float xx = widget.getSize().x + delta.x;
         float yy = widget.getSize().y + delta.y;
@@ -63,11 +65,11 @@ public class WidgetResizeButtonDragListener implements MouseDragEventListener {
 
         if (
             (
-                delta.x < 0 && (cursorPositionPrev.x <= resizeButton.getAbsolutePosition().x + resizeButton.getSize().x
-                    || cursorPosition.x <= resizeButton.getAbsolutePosition().x + resizeButton.getSize().x))
+                delta.x < 0 && (cursorPositionPrev.x() <= resizeButton.getAbsolutePositionView().x() + resizeButton.getSize().x
+                    || cursorPosition.x() <= resizeButton.getAbsolutePositionView().x() + resizeButton.getSize().x))
                 || (
-                (delta.x > 0 && (cursorPositionPrev.x >= resizeButton.getAbsolutePosition().x
-                    || cursorPosition.x >= resizeButton.getAbsolutePosition().x)))
+                (delta.x > 0 && (cursorPositionPrev.x() >= resizeButton.getAbsolutePositionView().x()
+                    || cursorPosition.x() >= resizeButton.getAbsolutePositionView().x())))
         ) {
             if (xx >= minWidth && (maxWidth == null || xx <= maxWidth)) {
                 deltaSize.x = delta.x;
@@ -75,11 +77,11 @@ public class WidgetResizeButtonDragListener implements MouseDragEventListener {
         }
         if (
             (
-                delta.y < 0 && (cursorPositionPrev.y <= resizeButton.getAbsolutePosition().y + resizeButton.getSize().y
-                    || cursorPosition.y <= resizeButton.getAbsolutePosition().y + resizeButton.getSize().y))
+                delta.y < 0 && (cursorPositionPrev.y() <= resizeButton.getAbsolutePositionView().y() + resizeButton.getSize().y
+                    || cursorPosition.y() <= resizeButton.getAbsolutePositionView().y() + resizeButton.getSize().y))
                 || (
-                (delta.y > 0 && (cursorPositionPrev.y >= resizeButton.getAbsolutePosition().y
-                    || cursorPosition.y >= resizeButton.getAbsolutePosition().y)))
+                (delta.y > 0 && (cursorPositionPrev.y() >= resizeButton.getAbsolutePositionView().y()
+                    || cursorPosition.y() >= resizeButton.getAbsolutePositionView().y())))
         ) {
             if (yy >= minHeight && (maxHeight == null || yy <= maxHeight)) {
                 deltaSize.y = delta.y;
@@ -87,7 +89,7 @@ public class WidgetResizeButtonDragListener implements MouseDragEventListener {
         }
 
         Vector2f oldSize = new Vector2f(widget.getSize());
-        widget.getSize().add(deltaSize);
+        widget.setSize(oldSize.x + deltaSize.x, oldSize.y + deltaSize.y);
         Vector2f newSize = widget.getSize();
         if (!oldSize.equals(newSize, THRESHOLD)) {
             EventProcessorProvider.getInstance().pushEvent(new ChangeSizeEvent(widget, event.getContext(), event.getFrame(), oldSize, newSize));
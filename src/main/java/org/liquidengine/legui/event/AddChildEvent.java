@@ -3,17 +3,40 @@ package org.liquidengine.legui.event;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.liquidengine.legui.component.Component;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+/**
+ * Event which is generated when child components are added. Components added by a single call (for example by bulk operation) are reported by a single event.
+ */
 public class AddChildEvent<T extends Component> extends Event<T> {
-    private final Component added;
+    private final List<Component> added;
 
     public AddChildEvent(T targetComponent, Component added) {
+        this(targetComponent, Collections.singletonList(added));
+    }
+
+    public AddChildEvent(T targetComponent, List<Component> added) {
         super(targetComponent, null, targetComponent.getFrame());
-        this.added = added;
+        this.added = Collections.unmodifiableList(added);
     }
 
+    /**
+     * Returns added component. If several components were added returns the first one.
+     *
+     * @return added component.
+     */
     public Component getAdded() {
+        return added.get(0);
+    }
+
+    /**
+     * Returns all added components in order they were added.
+     *
+     * @return added components.
+     */
+    public List<Component> getAddedComponents() {
         return added;
     }
 
@@ -17,16 +17,28 @@ public abstract class Event<T extends Component> {
     private final Context context;
     private final Frame frame;
 
+    private Component currentTarget;
+    private EventPhase phase = EventPhase.AT_TARGET;
+    private boolean propagationStopped;
+    private boolean consumed;
+
     public Event(T targetComponent, Context context, Frame frame) {
         this.targetComponent = targetComponent;
         this.context = context;
         this.frame = frame;
+        this.currentTarget = targetComponent;
     }
 
     public Frame getFrame() {
         return frame;
     }
 
+    /**
+     * Returns component this event was sent to. For {@link #isPropagating() propagating} events it is the innermost component, also while the event is
+     * processed by listeners of its parent components. Use {@link #getCurrentTarget()} to get the component which listener is called.
+     *
+     * @return component this event was sent to.
+     */
     public T getTargetComponent() {
         return targetComponent;
     }
@@ -35,6 +47,78 @@ public abstract class Event<T extends Component> {
         return context;
     }
 
+    /**
+     * Returns true if event is passed through parent components of target component (see {@link EventPhase}). By default events are passed only to target
+     * component.
+     *
+     * @return true if event propagates through parent components.
+     */
+    public boolean isPropagating() {
+        return false;
+    }
+
+    /**
+     * Returns component which listeners currently process this event. Same as target component unless event {@link #isPropagating() propagates}.
+     *
+     * @return component which listeners currently process this event.
+     */
+    public Component getCurrentTarget() {
+        return currentTarget;
+    }
+
+    /**
+     * Returns current phase of event propagation.
+     *
+     * @return current phase of event propagation.
+     */
+    public EventPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Used by event processors to set component which listeners are going to process this event.
+     *
+     * @param currentTarget component which listeners are going to process this event.
+     * @param phase         phase of event propagation.
+     */
+    public void setCurrentTarget(Component currentTarget, EventPhase phase) {
+        this.currentTarget = currentTarget;
+        this.phase = phase;
+    }
+
+    /**
+     * Used to stop propagation of event. Remaining listeners of current component still receive the event, but other components don't.
+     */
+    public void stopPropagation() {
+        propagationStopped = true;
+    }
+
+    /**
+     * Returns true if propagation of event was stopped.
+     *
+     * @return true if propagation of event was stopped.
+     */
+    public boolean isPropagationStopped() {
+        return propagationStopped;
+    }
+
+    /**
+     * Used to mark event as consumed. Consumed event isn't passed to any other listener, including remaining listeners of current component.
+     */
+    public void consume() {
+        consumed = true;
+        propagationStopped = true;
+    }
+
+    /**
+     * Returns true if event was consumed.
+     *
+     * @return true if event was consumed.
+     */
+    public boolean isConsumed() {
+        return consumed;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,20 @@
+package org.liquidengine.legui.event;
+
+/**
+ * Phase of event propagation. Events which {@link Event#isPropagating() propagate} are passed to capture listeners of parent components from the root to the
+ * target component, then to listeners of the target component and then to listeners of parent components from the target back to the root.
+ */
+public enum EventPhase {
+    /**
+     * Event is passed to capture listeners of parent components of target component, starting from the root.
+     */
+    CAPTURE,
+    /**
+     * Event is passed to listeners of target component.
+     */
+    AT_TARGET,
+    /**
+     * Event is passed to listeners of parent components of target component, starting from the nearest parent.
+     */
+    BUBBLE
+}
@@ -7,11 +7,11 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.input.KeyAction;
+import org.liquidengine.legui.input.KeyCode;
 import org.liquidengine.legui.input.KeyboardKey;
 import org.liquidengine.legui.input.KeyMod;
 import org.liquidengine.legui.system.context.Context;
 
-import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -20,35 +20,88 @@ import java.util.Set;
 public class KeyboardEvent<T extends Component> extends Event<T> {
 
     private final KeyAction action;
-    private final KeyboardKey key;
-    private final Set<KeyMod> mods;
+    private final KeyCode keyCode;
+    private final int nativeKeyCode;
+    /**
+     * Native (GLFW) modifier bits.
+     */
+    private final int mods;
+    private KeyboardKey key;
 
-    public KeyboardEvent(T component, Context context, Frame frame, KeyAction action, KeyboardKey key, Set<KeyMod> mods) {
+    public KeyboardEvent(T component, Context context, Frame frame, KeyAction action, KeyCode keyCode, int nativeKeyCode, int mods) {
         super(component, context, frame);
         this.action = action;
-        this.key = key;
+        this.keyCode = keyCode;
+        this.nativeKeyCode = nativeKeyCode;
         this.mods = mods;
     }
 
+    public KeyboardEvent(T component, Context context, Frame frame, KeyAction action, KeyboardKey key, Set<KeyMod> mods) {
+        this(component, context, frame, action, key.getKeyCode(), key.getNativeKeyCode(), KeyMod.toMask(mods));
+        this.key = key;
+    }
+
     public KeyAction getAction() {
         return action;
     }
 
+    /**
+     * Returns pressed key. Key instance is created on first call, so {@link #getKeyCode()} and {@link #getNativeKeyCode()} should be preferred.
+     *
+     * @return pressed key.
+     */
     public KeyboardKey getKey() {
+        if (key == null) {
+            key = new KeyboardKey(keyCode, nativeKeyCode);
+        }
         return key;
     }
 
+    public KeyCode getKeyCode() {
+        return keyCode;
+    }
+
+    public int getNativeKeyCode() {
+        return nativeKeyCode;
+    }
+
+    /**
+     * Returns set of pressed modifiers. New set is created on every call, so {@link #getModMask()} and {@link #isModPressed(KeyMod)} should be preferred.
+     *
+     * @return set of pressed modifiers.
+     */
     public Set<KeyMod> getMods() {
+        return KeyMod.toSet(mods);
+    }
+
+    /**
+     * Returns native (GLFW) bits of pressed modifiers.
+     *
+     * @return modifier bits.
+     * @see KeyMod#isSet(int)
+     */
+    public int getModMask() {
         return mods;
     }
 
+    /**
+     * Returns true if modifier is pressed.
+     *
+     * @param mod modifier to check.
+     * @return true if modifier is pressed.
+     */
+    public boolean isModPressed(KeyMod mod) {
+        return mod.isSet(mods);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
                 .append("targetComponent", getTargetComponent().getClass().getSimpleName())
                 .append("action", action)
-                .append("key", key)
-                .append("mods", Arrays.toString(mods.toArray()))
+                .append("keyCode", keyCode)
+                .append("nativeKeyCode", nativeKeyCode)
+                .append("mods", getMods())
                 .toString();
     }
 
@@ -63,7 +116,8 @@ public class KeyboardEvent<T extends Component> extends Event<T> {
         return new EqualsBuilder()
                 .appendSuper(super.equals(o))
                 .append(action, keyEvent.action)
-                .append(key, keyEvent.key)
+                .append(keyCode, keyEvent.keyCode)
+                .append(nativeKeyCode, keyEvent.nativeKeyCode)
                 .append(mods, keyEvent.mods)
                 .isEquals();
     }
@@ -73,7 +127,8 @@ public class KeyboardEvent<T extends Component> extends Event<T> {
         return new HashCodeBuilder(17, 37)
                 .appendSuper(super.hashCode())
                 .append(action)
-                .append(key)
+                .append(keyCode)
+                .append(nativeKeyCode)
                 .append(mods)
                 .toHashCode();
     }
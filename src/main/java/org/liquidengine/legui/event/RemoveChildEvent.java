@@ -3,24 +3,48 @@ package org.liquidengine.legui.event;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.liquidengine.legui.component.Component;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+/**
+ * Event which is generated when child components are removed. Components removed by a single call (for example by bulk operation) are reported by a
+ * single event.
+ */
 public class RemoveChildEvent<T extends Component> extends Event<T> {
-    private final Component removed;
+    private final List<Component> removed;
 
     public RemoveChildEvent(T targetComponent, Component removed) {
+        this(targetComponent, Collections.singletonList(removed));
+    }
+
+    public RemoveChildEvent(T targetComponent, List<Component> removed) {
         super(targetComponent, null, targetComponent.getFrame());
-        this.removed = removed;
+        this.removed = Collections.unmodifiableList(removed);
     }
 
+    /**
+     * Returns removed component. If several components were removed returns the first one.
+     *
+     * @return removed component.
+     */
     public Component getRemoved() {
+        return removed.get(0);
+    }
+
+    /**
+     * Returns all removed components in order they were removed.
+     *
+     * @return removed components.
+     */
+    public List<Component> getRemovedComponents() {
         return removed;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .append("added", removed)
+                .append("removed", removed)
                 .toString();
     }
 
@@ -30,6 +30,20 @@ public class ScrollEvent<T extends Component> extends Event<T> {
         return yoffset;
     }
 
+    /**
+     * Scroll event is passed to the top component under cursor and then propagates through its parent components.
+     * <p>
+     * Before propagation was added, each component under cursor received its own event. Listeners of parent components now receive the single event
+     * during {@link EventPhase#BUBBLE} phase, where {@link #getTargetComponent()} is the top component and {@link #getCurrentTarget()} is their own
+     * component. Scrollable components stop propagation of scroll events they handle, so add a capture listener to see every event.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isPropagating() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
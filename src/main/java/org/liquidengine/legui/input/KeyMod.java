@@ -1,10 +1,75 @@
 package org.liquidengine.legui.input;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.lwjgl.glfw.GLFW.*;
+
 public enum KeyMod {
-    SHIFT,
-    ALT,
-    CONTROL,
-    SUPER,
-    CAPS_LOCK,
-    NUM_LOCK
+    SHIFT(GLFW_MOD_SHIFT),
+    ALT(GLFW_MOD_ALT),
+    CONTROL(GLFW_MOD_CONTROL),
+    SUPER(GLFW_MOD_SUPER),
+    CAPS_LOCK(GLFW_MOD_CAPS_LOCK),
+    NUM_LOCK(GLFW_MOD_NUM_LOCK);
+
+    private static final KeyMod[] VALUES = values();
+
+    private final int mask;
+
+    KeyMod(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Returns native (GLFW) bit of this modifier.
+     *
+     * @return modifier bit.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns true if this modifier is set in provided native modifier bits.
+     *
+     * @param mods modifier bits.
+     * @return true if this modifier is set.
+     */
+    public boolean isSet(int mods) {
+        return (mods & mask) != 0;
+    }
+
+    /**
+     * Used to convert native modifier bits to set of modifiers. Creates new set on every call.
+     *
+     * @param mods modifier bits.
+     * @return set of modifiers.
+     */
+    public static Set<KeyMod> toSet(int mods) {
+        EnumSet<KeyMod> set = EnumSet.noneOf(KeyMod.class);
+        for (KeyMod mod : VALUES) {
+            if (mod.isSet(mods)) {
+                set.add(mod);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Used to convert set of modifiers to native modifier bits.
+     *
+     * @param mods modifiers.
+     * @return modifier bits.
+     */
+    public static int toMask(Collection<KeyMod> mods) {
+        int mask = 0;
+        if (mods != null) {
+            for (KeyMod mod : mods) {
+                mask |= mod.mask;
+            }
+        }
+        return mask;
+    }
 }
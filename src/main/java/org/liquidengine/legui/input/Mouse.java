@@ -1,53 +1,92 @@
 package org.liquidengine.legui.input;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 
 import static org.lwjgl.glfw.GLFW.*;
 
 /**
- * This class used to hold mouse state.
+ * This class used to access mouse state of the context which received mouse input last time.
+ * <p>
+ * Mouse state is stored per context, so with several windows this class only reflects one of them. Components and listeners should use
+ * {@link org.liquidengine.legui.system.context.Context#getMouseState()} instead.
  * <p>
  * Created by ShchAlexander on 2/9/2017.
  */
 public class Mouse {
 
-    private static Vector2f cursorPosition = new Vector2f();
-    private static Vector2f cursorPositionPrev = new Vector2f();
+    private static MouseState state = new MouseState();
+
+    /**
+     * Returns mouse state of the context which received mouse input last time.
+     *
+     * @return mouse state.
+     */
+    public static MouseState getState() {
+        return state;
+    }
+
+    /**
+     * Used to set mouse state which is accessed through static methods of this class. Called by system event handlers when context receives mouse input.
+     *
+     * @param state mouse state.
+     */
+    public static void setState(MouseState state) {
+        if (state != null) {
+            Mouse.state = state;
+        }
+    }
 
     /**
      * Gets cursor position.
      *
      * @return the cursor position
+     * @deprecated use {@link MouseState#getCursorPosition()} of the context.
      */
+    @Deprecated
     public static Vector2f getCursorPosition() {
-        return new Vector2f(cursorPosition);
+        return new Vector2f(state.getCursorPosition());
     }
 
     /**
      * Sets cursor position.
      *
      * @param cursorPosition the cursor position
+     * @deprecated use {@link MouseState#setCursorPosition(float, float)} of the context.
      */
+    @Deprecated
     public static void setCursorPosition(Vector2f cursorPosition) {
-        Mouse.cursorPosition = cursorPosition != null ? cursorPosition : new Vector2f();
+        if (cursorPosition != null) {
+            state.setCursorPosition(cursorPosition.x, cursorPosition.y);
+        } else {
+            state.setCursorPosition(0, 0);
+        }
     }
 
     /**
      * Gets previous cursor position.
      *
      * @return the previous cursor position.
+     * @deprecated use {@link MouseState#getCursorPositionPrev()} of the context.
      */
+    @Deprecated
     public static Vector2f getCursorPositionPrev() {
-        return new Vector2f(cursorPositionPrev);
+        return new Vector2f(state.getCursorPositionPrev());
     }
 
     /**
      * Sets previous cursor position.
      *
      * @param cursorPositionPrev the previous cursor position.
+     * @deprecated use {@link MouseState#setCursorPositionPrev(float, float)} of the context.
      */
+    @Deprecated
     public static void setCursorPositionPrev(Vector2f cursorPositionPrev) {
-        Mouse.cursorPositionPrev = cursorPositionPrev != null ? cursorPositionPrev : new Vector2f();
+        if (cursorPositionPrev != null) {
+            state.setCursorPositionPrev(cursorPositionPrev.x, cursorPositionPrev.y);
+        } else {
+            state.setCursorPositionPrev(0, 0);
+        }
     }
 
     /**
@@ -104,10 +143,20 @@ public class Mouse {
          * The constant MOUSE_BUTTON_MIDDLE.
          */
         public static final MouseButton MOUSE_BUTTON_MIDDLE = MOUSE_BUTTON_3;
+        /**
+         * Mouse buttons indexed by code.
+         */
+        private static final MouseButton[] BY_CODE = new MouseButton[GLFW_MOUSE_BUTTON_LAST + 1];
+
+        static {
+            for (MouseButton mouseButton : values()) {
+                if (mouseButton.code >= 0) {
+                    BY_CODE[mouseButton.code] = mouseButton;
+                }
+            }
+        }
+
         private int code;
-        private boolean pressed;
-        private Vector2f pressPosition;
-        private Vector2f releasePosition;
 
         MouseButton(int code) {
             this.code = code;
@@ -121,10 +170,8 @@ public class Mouse {
          * @return the by code
          */
         public static MouseButton getByCode(int code) {
-            for (MouseButton mouseButton : MouseButton.values()) {
-                if (mouseButton.getCode() == code) {
-                    return mouseButton;
-                }
+            if (code >= 0 && code < BY_CODE.length && BY_CODE[code] != null) {
+                return BY_CODE[code];
             }
             return MOUSE_BUTTON_UNKNOWN;
         }
@@ -142,54 +189,72 @@ public class Mouse {
          * Is pressed boolean.
          *
          * @return the boolean
+         * @deprecated use {@link MouseState#isPressed(MouseButton)} of the context.
          */
+        @Deprecated
         public boolean isPressed() {
-            return pressed;
+            return state.isPressed(code);
         }
 
         /**
          * Sets pressed.
          *
          * @param pressed the pressed
+         * @deprecated use {@link MouseState#setPressed(int, boolean)} of the context.
          */
+        @Deprecated
         public void setPressed(boolean pressed) {
-            this.pressed = pressed;
+            state.setPressed(code, pressed);
         }
 
         /**
          * Gets release position.
          *
          * @return the release position
+         * @deprecated use {@link MouseState#getReleasePosition(int)} of the context.
          */
+        @Deprecated
         public Vector2f getReleasePosition() {
-            return releasePosition;
+            Vector2fc position = state.getReleasePosition(code);
+            return position == null ? null : new Vector2f(position);
         }
 
         /**
          * Sets release position.
          *
          * @param releasePosition the release position
+         * @deprecated use {@link MouseState#setReleasePosition(int, float, float)} of the context.
          */
+        @Deprecated
         public void setReleasePosition(Vector2f releasePosition) {
-            this.releasePosition = releasePosition;
+            if (releasePosition != null) {
+                state.setReleasePosition(code, releasePosition.x, releasePosition.y);
+            }
         }
 
         /**
          * Gets press position.
          *
          * @return the press position
+         * @deprecated use {@link MouseState#getPressPosition(int)} of the context.
          */
+        @Deprecated
         public Vector2f getPressPosition() {
-            return pressPosition;
+            Vector2fc position = state.getPressPosition(code);
+            return position == null ? null : new Vector2f(position);
         }
 
         /**
          * Sets press position.
          *
          * @param pressPosition the press position
+         * @deprecated use {@link MouseState#setPressPosition(int, float, float)} of the context.
          */
+        @Deprecated
         public void setPressPosition(Vector2f pressPosition) {
-            this.pressPosition = pressPosition;
+            if (pressPosition != null) {
+                state.setPressPosition(code, pressPosition.x, pressPosition.y);
+            }
         }
     }
 }
@@ -0,0 +1,212 @@
+package org.liquidengine.legui.input;
+
+import org.joml.Vector2f;
+import org.joml.Vector2fc;
+
+import static org.lwjgl.glfw.GLFW.GLFW_MOUSE_BUTTON_LAST;
+
+/**
+ * This class used to hold mouse state of a single context (window). Returned vectors are read-only views of the state and are updated in place, so they
+ * should be copied if the value is needed after the next input event.
+ */
+public class MouseState {
+
+    /**
+     * Number of supported mouse buttons. Button state is indexed by button code.
+     */
+    private static final int BUTTON_COUNT = GLFW_MOUSE_BUTTON_LAST + 1;
+
+    private final Vector2f cursorPosition = new Vector2f();
+    private final Vector2f cursorPositionPrev = new Vector2f();
+
+    private final boolean[] pressed = new boolean[BUTTON_COUNT];
+    private final Vector2f[] pressPositions = new Vector2f[BUTTON_COUNT];
+    private final Vector2f[] releasePositions = new Vector2f[BUTTON_COUNT];
+
+    /**
+     * Creates empty mouse state.
+     */
+    public MouseState() {
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            pressPositions[i] = new Vector2f();
+            releasePositions[i] = new Vector2f();
+        }
+    }
+
+    /**
+     * Returns cursor position.
+     *
+     * @return the cursor position.
+     */
+    public Vector2fc getCursorPosition() {
+        return cursorPosition;
+    }
+
+    /**
+     * Returns cursor x position.
+     *
+     * @return the cursor x position.
+     */
+    public float getCursorX() {
+        return cursorPosition.x;
+    }
+
+    /**
+     * Returns cursor y position.
+     *
+     * @return the cursor y position.
+     */
+    public float getCursorY() {
+        return cursorPosition.y;
+    }
+
+    /**
+     * Returns previous cursor position.
+     *
+     * @return the previous cursor position.
+     */
+    public Vector2fc getCursorPositionPrev() {
+        return cursorPositionPrev;
+    }
+
+    /**
+     * Returns cursor movement along x axis since previous cursor position.
+     *
+     * @return the cursor delta along x axis.
+     */
+    public float getCursorDeltaX() {
+        return cursorPosition.x - cursorPositionPrev.x;
+    }
+
+    /**
+     * Returns cursor movement along y axis since previous cursor position.
+     *
+     * @return the cursor delta along y axis.
+     */
+    public float getCursorDeltaY() {
+        return cursorPosition.y - cursorPositionPrev.y;
+    }
+
+    /**
+     * Used to move cursor to specified position. Current position becomes previous position.
+     *
+     * @param x the cursor x position.
+     * @param y the cursor y position.
+     */
+    public void moveCursor(float x, float y) {
+        cursorPositionPrev.set(cursorPosition);
+        cursorPosition.set(x, y);
+    }
+
+    /**
+     * Used to set cursor position without changing previous position.
+     *
+     * @param x the cursor x position.
+     * @param y the cursor y position.
+     */
+    public void setCursorPosition(float x, float y) {
+        cursorPosition.set(x, y);
+    }
+
+    /**
+     * Used to set previous cursor position.
+     *
+     * @param x the previous cursor x position.
+     * @param y the previous cursor y position.
+     */
+    public void setCursorPositionPrev(float x, float y) {
+        cursorPositionPrev.set(x, y);
+    }
+
+    /**
+     * Returns true if mouse button with specified code is pressed.
+     *
+     * @param code mouse button code.
+     * @return true if button is pressed.
+     */
+    public boolean isPressed(int code) {
+        return code >= 0 && code < BUTTON_COUNT && pressed[code];
+    }
+
+    /**
+     * Returns true if mouse button is pressed.
+     *
+     * @param button mouse button.
+     * @return true if button is pressed.
+     */
+    public boolean isPressed(Mouse.MouseButton button) {
+        return isPressed(button.getCode());
+    }
+
+    /**
+     * Returns true if any mouse button is pressed.
+     *
+     * @return true if any mouse button is pressed.
+     */
+    public boolean isAnyPressed() {
+        for (boolean buttonPressed : pressed) {
+            if (buttonPressed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Used to set pressed state of mouse button with specified code. Unknown buttons are ignored.
+     *
+     * @param code    mouse button code.
+     * @param pressed pressed state.
+     */
+    public void setPressed(int code, boolean pressed) {
+        if (code >= 0 && code < BUTTON_COUNT) {
+            this.pressed[code] = pressed;
+        }
+    }
+
+    /**
+     * Returns position of the cursor when mouse button with specified code was pressed last time.
+     *
+     * @param code mouse button code.
+     * @return press position or null for unknown button.
+     */
+    public Vector2fc getPressPosition(int code) {
+        return code >= 0 && code < BUTTON_COUNT ? pressPositions[code] : null;
+    }
+
+    /**
+     * Used to set press position of mouse button with specified code. Unknown buttons are ignored.
+     *
+     * @param code mouse button code.
+     * @param x    press x position.
+     * @param y    press y position.
+     */
+    public void setPressPosition(int code, float x, float y) {
+        if (code >= 0 && code < BUTTON_COUNT) {
+            pressPositions[code].set(x, y);
+        }
+    }
+
+    /**
+     * Returns position of the cursor when mouse button with specified code was released last time.
+     *
+     * @param code mouse button code.
+     * @return release position or null for unknown button.
+     */
+    public Vector2fc getReleasePosition(int code) {
+        return code >= 0 && code < BUTTON_COUNT ? releasePositions[code] : null;
+    }
+
+    /**
+     * Used to set release position of mouse button with specified code. Unknown buttons are ignored.
+     *
+     * @param code mouse button code.
+     * @param x    release x position.
+     * @param y    release y position.
+     */
+    public void setReleasePosition(int code, float x, float y) {
+        if (code >= 0 && code < BUTTON_COUNT) {
+            releasePositions[code].set(x, y);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package org.liquidengine.legui.intersection;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Component;
 
 /**
@@ -8,5 +8,5 @@ import org.liquidengine.legui.component.Component;
  */
 public abstract class Intersector {
 
-    public abstract boolean intersects(Component component, Vector2f vector2f);
+    public abstract boolean intersects(Component component, Vector2fc vector2f);
 }
@@ -0,0 +1,635 @@
+package org.liquidengine.legui.intersection;
+
+import org.joml.Vector2f;
+import org.joml.Vector2fc;
+import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.component.Layer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Uniform grid of component bounds of a single layer, used to find components under a point without walking the whole component tree.
+ * <p>
+ * Every component of the layer is stored with its position in depth-first order (which is the z-order used by event handlers) and with its absolute bounds
+ * clipped by bounds of its parent components. Components which use intersector other than {@link RectangleIntersector} are not clipped and checked with
+ * their intersector on query. Visibility is always checked on query, so showing or hiding components doesn't require index update.
+ * <p>
+ * Changes of position, size or intersector of a component update only entries of that component and its child components on next query. Added and removed
+ * components are inserted to or removed from the index immediately, together with their child components. Depth-first order is stored with gaps, so
+ * components inserted between existing ones take free order values and the index is rebuilt only when the gap is exhausted.
+ */
+public class LayerSpatialIndex {
+
+    /**
+     * Default size of grid cell.
+     */
+    public static final float DEFAULT_CELL_SIZE = 64f;
+    /**
+     * Maximum number of cells covered by a single component. Bigger components are stored in separate list which is checked on every query.
+     */
+    private static final int MAX_COMPONENT_CELLS = 1024;
+    /**
+     * Distance between depth-first order values of neighbour components assigned on rebuild.
+     */
+    private static final long ORDER_GAP = 1L << 20;
+
+    private final Layer layer;
+    private final float cellSize;
+
+    private final Map<Component, Entry> entries = new IdentityHashMap<>();
+    private final CellMap cells = new CellMap();
+    private final List<Entry> oversized = new ArrayList<>();
+    private final Set<Component> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private boolean valid;
+    private long nextOrder;
+    private long orderStep;
+    private int rebuildCount;
+
+    /**
+     * Creates index for specified layer with default cell size.
+     *
+     * @param layer layer to index.
+     */
+    public LayerSpatialIndex(Layer layer) {
+        this(layer, DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates index for specified layer.
+     *
+     * @param layer    layer to index.
+     * @param cellSize size of grid cell.
+     */
+    public LayerSpatialIndex(Layer layer, float cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size should be positive, got " + cellSize);
+        }
+        this.layer = layer;
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Used to mark whole index as outdated.
+     */
+    public void invalidate() {
+        valid = false;
+        dirty.clear();
+    }
+
+    /**
+     * Used to mark bounds of component and its child components as outdated.
+     *
+     * @param component component which position, size or intersector changed.
+     */
+    public void invalidate(Component component) {
+        if (component == layer) {
+            invalidate();
+        } else if (valid && component != null) {
+            dirty.add(component);
+        }
+    }
+
+    /**
+     * Used to add component and its child components to the index. Called when component is added to other component of the layer.
+     *
+     * @param component added component.
+     */
+    public void componentAdded(Component component) {
+        if (!valid) {
+            return;
+        }
+        Component parent = component.getParent();
+        Entry parentEntry = null;
+        if (parent != layer) {
+            parentEntry = parent == null ? null : entries.get(parent);
+            if (parentEntry == null) {
+                invalidate();
+                return;
+            }
+        }
+        Entry existing = entries.get(component);
+        if (existing != null) {
+            removeTree(component);
+        }
+
+        Entry previous = previousEntry(parent, component);
+        Entry next = nextEntry(parent, component);
+        long count = countTree(component);
+        long low;
+        long high;
+        if (previous == null && next == null) {
+            low = 0;
+            high = (count + 1) * ORDER_GAP;
+        } else if (previous == null) {
+            high = next.order;
+            low = high - (count + 1) * ORDER_GAP;
+        } else if (next == null) {
+            low = previous.order;
+            high = low + (count + 1) * ORDER_GAP;
+        } else {
+            low = previous.order;
+            high = next.order;
+        }
+        long step = (high - low) / (count + 1);
+        if (step < 1) {
+            invalidate();
+            return;
+        }
+        nextOrder = low + step;
+        orderStep = step;
+        build(component, parentEntry);
+    }
+
+    /**
+     * Used to remove component and its child components from the index. Called when component is removed from other component of the layer.
+     *
+     * @param component removed component.
+     */
+    public void componentRemoved(Component component) {
+        if (valid) {
+            removeTree(component);
+        }
+    }
+
+    /**
+     * Returns top focusable component of the layer under the point. The layer itself is not checked.
+     *
+     * @param point point to search.
+     * @return top focusable component under the point or null.
+     */
+    public Component getTargetComponent(Vector2fc point) {
+        return find(point, true);
+    }
+
+    /**
+     * Returns top component of the layer under the point, whether it is focusable or not. The layer itself is not checked.
+     *
+     * @param point point to search.
+     * @return top component under the point or null.
+     */
+    public Component getTopComponent(Vector2fc point) {
+        return find(point, false);
+    }
+
+    private Component find(Vector2fc point, boolean focusable) {
+        update();
+        List<Entry> cell = cells.get(cell(point.x()), cell(point.y()));
+        Entry target = null;
+        if (cell != null) {
+            for (int i = cell.size() - 1; i >= 0; i--) {
+                Entry entry = cell.get(i);
+                if ((!focusable || entry.component.isFocusable()) && isHit(entry, point)) {
+                    target = entry;
+                    break;
+                }
+            }
+        }
+        for (int i = oversized.size() - 1; i >= 0; i--) {
+            Entry entry = oversized.get(i);
+            if (target != null && entry.order < target.order) {
+                break;
+            }
+            if ((!focusable || entry.component.isFocusable()) && isHit(entry, point)) {
+                target = entry;
+                break;
+            }
+        }
+        return target == null ? null : target.component;
+    }
+
+    /**
+     * Used to add all components of the layer under the point to the list. Components are added in depth-first order. The layer itself is not checked.
+     *
+     * @param point   point to search.
+     * @param targets list to add components to.
+     */
+    public void getTargetComponents(Vector2fc point, List<Component> targets) {
+        update();
+        List<Entry> cell = cells.get(cell(point.x()), cell(point.y()));
+        int cellCount = cell == null ? 0 : cell.size();
+        int i = 0;
+        int j = 0;
+        while (i < cellCount || j < oversized.size()) {
+            Entry entry;
+            if (j >= oversized.size() || (i < cellCount && cell.get(i).order < oversized.get(j).order)) {
+                entry = cell.get(i++);
+            } else {
+                entry = oversized.get(j++);
+            }
+            if (isHit(entry, point)) {
+                targets.add(entry.component);
+            }
+        }
+    }
+
+    /**
+     * Checks if entry is hit by point: point should be inside of clipped bounds, component and all of its parents should be visible and components with
+     * custom intersectors should be intersected by point.
+     */
+    private boolean isHit(Entry entry, Vector2fc point) {
+        float x = point.x();
+        float y = point.y();
+        if (x < entry.minX || x > entry.maxX || y < entry.minY || y > entry.maxY) {
+            return false;
+        }
+        for (Entry e = entry; e != null; e = e.parent) {
+            if (!e.component.isVisible()) {
+                return false;
+            }
+            if (e.custom && !e.component.intersects(point)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Used to rebuild index or update outdated entries.
+     */
+    private void update() {
+        if (valid && dirty.isEmpty()) {
+            return;
+        }
+        if (!valid || dirty.size() > entries.size() / 8) {
+            rebuild();
+            return;
+        }
+        for (Component component : dirty) {
+            Entry entry = entries.get(component);
+            if (entry == null || !refresh(entry)) {
+                rebuild();
+                return;
+            }
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Returns number of times the whole index was rebuilt.
+     */
+    int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private void rebuild() {
+        rebuildCount++;
+        entries.clear();
+        cells.clear();
+        oversized.clear();
+        dirty.clear();
+        nextOrder = 0;
+        orderStep = ORDER_GAP;
+        for (int i = 0; i < layer.count(); i++) {
+            build(layer.getChild(i), null);
+        }
+        valid = true;
+    }
+
+    private void build(Component component, Entry parent) {
+        Entry entry = new Entry(component, parent, nextOrder);
+        nextOrder += orderStep;
+        entries.put(component, entry);
+        place(entry);
+        for (int i = 0; i < component.count(); i++) {
+            build(component.getChild(i), entry);
+        }
+    }
+
+    /**
+     * Used to remove entries of component and its child components.
+     */
+    private void removeTree(Component component) {
+        Entry entry = entries.remove(component);
+        if (entry == null) {
+            return;
+        }
+        remove(entry);
+        dirty.remove(component);
+        for (int i = 0; i < component.count(); i++) {
+            removeTree(component.getChild(i));
+        }
+    }
+
+    /**
+     * Returns entry which precedes component in depth-first order - last indexed descendant of previous indexed sibling or parent entry.
+     */
+    private Entry previousEntry(Component parent, Component component) {
+        for (int i = parent.indexOfChild(component) - 1; i >= 0; i--) {
+            Component sibling = parent.getChild(i);
+            Entry entry = entries.get(sibling);
+            if (entry != null) {
+                while (sibling.count() > 0) {
+                    sibling = sibling.getChild(sibling.count() - 1);
+                    Entry child = entries.get(sibling);
+                    if (child == null) {
+                        break;
+                    }
+                    entry = child;
+                }
+                return entry;
+            }
+        }
+        return parent == layer ? null : entries.get(parent);
+    }
+
+    /**
+     * Returns entry which follows component and its child components in depth-first order - next indexed sibling of component or of its closest parent.
+     */
+    private Entry nextEntry(Component parent, Component component) {
+        Component current = component;
+        Component currentParent = parent;
+        while (currentParent != null) {
+            for (int i = currentParent.indexOfChild(current) + 1; i < currentParent.count(); i++) {
+                Entry entry = entries.get(currentParent.getChild(i));
+                if (entry != null) {
+                    return entry;
+                }
+            }
+            if (currentParent == layer) {
+                return null;
+            }
+            current = currentParent;
+            currentParent = currentParent.getParent();
+        }
+        return null;
+    }
+
+    private static long countTree(Component component) {
+        long count = 1;
+        for (int i = 0; i < component.count(); i++) {
+            count += countTree(component.getChild(i));
+        }
+        return count;
+    }
+
+    /**
+     * Used to update bounds of entry and its child entries. Returns false if component tree was changed and index should be rebuilt.
+     */
+    private boolean refresh(Entry entry) {
+        remove(entry);
+        place(entry);
+        for (int i = 0; i < entry.component.count(); i++) {
+            Entry child = entries.get(entry.component.getChild(i));
+            if (child == null || child.parent != entry || !refresh(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Used to calculate clipped bounds of entry and to add entry to grid.
+     */
+    private void place(Entry entry) {
+        Component component = entry.component;
+        Entry parent = entry.parent;
+        entry.custom = component.getIntersector().getClass() != RectangleIntersector.class;
+        if (entry.custom) {
+            if (parent == null) {
+                entry.setBounds(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+            } else {
+                entry.setBounds(parent.minX, parent.minY, parent.maxX, parent.maxY);
+            }
+        } else {
+            Vector2fc position = component.getAbsolutePositionView();
+            Vector2f size = component.getSize();
+            entry.setBounds(position.x(), position.y(), position.x() + size.x, position.y() + size.y);
+            if (parent != null) {
+                entry.clip(parent);
+            }
+        }
+        if (entry.minX > entry.maxX || entry.minY > entry.maxY) {
+            return;
+        }
+
+        long cellsX = (long) cell(entry.maxX) - cell(entry.minX) + 1;
+        long cellsY = (long) cell(entry.maxY) - cell(entry.minY) + 1;
+        if (Float.isInfinite(entry.minX) || Float.isInfinite(entry.minY) || Float.isInfinite(entry.maxX) || Float.isInfinite(entry.maxY)
+            || cellsX * cellsY > MAX_COMPONENT_CELLS) {
+            entry.oversized = true;
+            insert(oversized, entry);
+        } else {
+            entry.cellMinX = cell(entry.minX);
+            entry.cellMinY = cell(entry.minY);
+            entry.cellMaxX = cell(entry.maxX);
+            entry.cellMaxY = cell(entry.maxY);
+            for (int x = entry.cellMinX; x <= entry.cellMaxX; x++) {
+                for (int y = entry.cellMinY; y <= entry.cellMaxY; y++) {
+                    insert(cells.getOrCreate(x, y), entry);
+                }
+            }
+        }
+        entry.indexed = true;
+    }
+
+    /**
+     * Used to remove entry from grid.
+     */
+    private void remove(Entry entry) {
+        if (!entry.indexed) {
+            return;
+        }
+        if (entry.oversized) {
+            oversized.remove(entry);
+        } else {
+            for (int x = entry.cellMinX; x <= entry.cellMaxX; x++) {
+                for (int y = entry.cellMinY; y <= entry.cellMaxY; y++) {
+                    List<Entry> cell = cells.get(x, y);
+                    if (cell != null) {
+                        cell.remove(entry);
+                        if (cell.isEmpty()) {
+                            cells.remove(x, y);
+                        }
+                    }
+                }
+            }
+        }
+        entry.indexed = false;
+        entry.oversized = false;
+    }
+
+    /**
+     * Used to insert entry to list sorted by depth-first order.
+     */
+    private static void insert(List<Entry> list, Entry entry) {
+        int index = list.size();
+        if (index > 0 && list.get(index - 1).order > entry.order) {
+            int low = 0;
+            int high = index - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (list.get(mid).order < entry.order) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            index = low;
+        }
+        list.add(index, entry);
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Open addressing hash map from grid cell coordinates to entries of the cell. Keys are stored as primitive longs, so lookups don't allocate.
+     */
+    static final class CellMap {
+
+        static final int INITIAL_CAPACITY = 64;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private Object[] cells = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        List<Entry> get(int x, int y) {
+            int slot = find(key(x, y));
+            return slot < 0 ? null : (List<Entry>) cells[slot];
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Entry> getOrCreate(int x, int y) {
+            long key = key(x, y);
+            int slot = find(key);
+            if (slot >= 0) {
+                return (List<Entry>) cells[slot];
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            List<Entry> cell = new ArrayList<>();
+            put(key, cell);
+            return cell;
+        }
+
+        void remove(int x, int y) {
+            int slot = find(key(x, y));
+            if (slot < 0) {
+                return;
+            }
+            size--;
+            int mask = keys.length - 1;
+            // shift following entries of the probe sequence back to keep it unbroken
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (cells[next] == null) {
+                    break;
+                }
+                int home = hash(keys[next]) & mask;
+                boolean inRange = slot < next ? (home > slot && home <= next) : (home > slot || home <= next);
+                if (!inRange) {
+                    keys[slot] = keys[next];
+                    cells[slot] = cells[next];
+                    slot = next;
+                }
+            }
+            cells[slot] = null;
+        }
+
+        void clear() {
+            Arrays.fill(cells, null);
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; cells[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void put(long key, Object cell) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (cells[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            cells[slot] = cell;
+            size++;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldCells = cells;
+            keys = new long[capacity];
+            cells = new Object[capacity];
+            size = 0;
+            for (int i = 0; i < oldCells.length; i++) {
+                if (oldCells[i] != null) {
+                    put(oldKeys[i], oldCells[i]);
+                }
+            }
+        }
+
+        static long key(int x, int y) {
+            return ((long) x << 32) | (y & 0xFFFFFFFFL);
+        }
+
+        static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Indexed component with its clipped absolute bounds.
+     */
+    private static final class Entry {
+
+        private final Component component;
+        private final Entry parent;
+        private final long order;
+
+        private float minX;
+        private float minY;
+        private float maxX;
+        private float maxY;
+        private boolean custom;
+
+        private boolean indexed;
+        private boolean oversized;
+        private int cellMinX;
+        private int cellMinY;
+        private int cellMaxX;
+        private int cellMaxY;
+
+        private Entry(Component component, Entry parent, long order) {
+            this.component = component;
+            this.parent = parent;
+            this.order = order;
+        }
+
+        private void setBounds(float minX, float minY, float maxX, float maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        private void clip(Entry bounds) {
+            minX = Math.max(minX, bounds.minX);
+            minY = Math.max(minY, bounds.minY);
+            maxX = Math.min(maxX, bounds.maxX);
+            maxY = Math.min(maxY, bounds.maxY);
+        }
+    }
+}
@@ -2,7 +2,7 @@ package org.liquidengine.legui.intersection;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Component;
 
 import java.util.HashMap;
@@ -13,13 +13,13 @@ import java.util.HashMap;
 public class RectangleIntersector extends Intersector {
 
     @Override
-    public boolean intersects(Component component, Vector2f point) {
-        Vector2f pos = component.getAbsolutePosition();
-        float x = pos.x;
-        float y = pos.y;
+    public boolean intersects(Component component, Vector2fc point) {
+        Vector2fc pos = component.getAbsolutePositionView();
+        float x = pos.x();
+        float y = pos.y();
         float w = component.getSize().x;
         float h = component.getSize().y;
-        return point.x >= x && point.x <= x + w && point.y >= y && point.y <= y + h;
+        return point.x() >= x && point.x() <= x + w && point.y() >= y && point.y() <= y + h;
     }
 
     /**
@@ -6,20 +6,88 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.liquidengine.legui.event.Event;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Used to hold event listeners.
+ * <p>
+ * Event classes are mapped to small integer ids. Listeners are stored as immutable arrays which are replaced on every change, so listeners can be read
+ * without locking while other thread adds or removes them. Nothing is allocated until the first listener is added.
  */
 public class ListenerMap {
 
-    private final Lock lock = new ReentrantLock();
-    private Map<Class<? extends Event>, List<? extends EventListener>> listenerMap = new ConcurrentHashMap<>();
+    /**
+     * Empty listener array returned for event types without listeners.
+     */
+    private static final EventListener<?>[] EMPTY = new EventListener<?>[0];
+
+    private static final AtomicInteger NEXT_EVENT_TYPE_ID = new AtomicInteger();
+    private static final ClassValue<Integer> EVENT_TYPE_IDS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_EVENT_TYPE_ID.getAndIncrement();
+        }
+    };
+
+    /**
+     * Current listeners. Replaced (never modified) under lock of this map.
+     */
+    private volatile Table table;
+    /**
+     * Notified when listeners of any event type are added or removed.
+     */
+    private transient volatile Observer observer;
+
+    /**
+     * Creates empty listener map.
+     */
+    public ListenerMap() {
+    }
+
+    /**
+     * Creates empty listener map with specified observer.
+     *
+     * @param observer observer to notify when listeners are added or removed.
+     */
+    public ListenerMap(Observer observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Returns id of specified event class. Ids are small non-negative integers assigned on first use.
+     *
+     * @param eventClass event class.
+     * @return id of event class.
+     */
+    public static int getEventTypeId(Class<? extends Event> eventClass) {
+        return EVENT_TYPE_IDS.get(eventClass);
+    }
+
+    /**
+     * Used to set observer which is notified when listeners are added or removed. Listener map has single observer - usually the component which owns it.
+     *
+     * @param observer observer to set or null.
+     */
+    public void setObserver(Observer observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * Returns observer which is notified when listeners are added or removed.
+     *
+     * @return observer or null.
+     */
+    public Observer getObserver() {
+        return observer;
+    }
 
     /**
      * Used to add event listener for specified event type.
@@ -29,11 +97,12 @@ public class ListenerMap {
      * @param <E> event type.
      */
     public <E extends Event> void addListener(Class<E> eventClass, EventListener<E> listener) {
-        getListeners(eventClass).add(listener);
+        add(getEventTypeId(eventClass), -1, listener);
     }
 
     /**
-     * Returns event listeners for specified event type.
+     * Returns event listeners for specified event type. Returned list is a view of this map, so changes of the list are applied to the map. Its iterator
+     * iterates over listeners registered at the moment of its creation.
      *
      * @param eventClass event class for which registered listeners.
      * @param <E> event type.
@@ -41,13 +110,48 @@ public class ListenerMap {
      * @return event listeners for specified event type.
      */
     public <E extends Event> List<EventListener<E>> getListeners(Class<E> eventClass) {
-        lock.lock();
-        List<EventListener<E>> eventListeners = (List<EventListener<E>>) listenerMap.get(eventClass);
-        if (eventListeners == null) {
-            listenerMap.put(eventClass, eventListeners = new CopyOnWriteArrayList<>());
+        return new ListenerList<>(getEventTypeId(eventClass));
+    }
+
+    /**
+     * Returns event listeners for specified event type as array. Returned array is shared and should not be modified. Doesn't allocate.
+     *
+     * @param eventClass event class for which registered listeners.
+     *
+     * @return event listeners for specified event type or empty array.
+     */
+    public EventListener<?>[] getListenerArray(Class<? extends Event> eventClass) {
+        return getListenerArray(getEventTypeId(eventClass));
+    }
+
+    /**
+     * Returns event listeners for event type with specified id as array. Returned array is shared and should not be modified. Doesn't allocate.
+     *
+     * @param eventTypeId event type id.
+     *
+     * @return event listeners for specified event type or empty array.
+     * @see #getEventTypeId(Class)
+     */
+    public EventListener<?>[] getListenerArray(int eventTypeId) {
+        Table current = table;
+        if (current != null) {
+            int index = current.indexOf(eventTypeId);
+            if (index >= 0) {
+                return current.listeners[index];
+            }
         }
-        lock.unlock();
-        return eventListeners;
+        return EMPTY;
+    }
+
+    /**
+     * Returns true if there are listeners for specified event type.
+     *
+     * @param eventClass event class.
+     *
+     * @return true if there are listeners for specified event type.
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        return getListenerArray(eventClass).length != 0;
     }
 
     /**
@@ -58,7 +162,49 @@ public class ListenerMap {
      * @param <E> event type.
      */
     public <E extends Event> void removeListener(Class<E> eventClass, EventListener<E> listener) {
-        getListeners(eventClass).remove(listener);
+        remove(getEventTypeId(eventClass), listener);
+    }
+
+    /**
+     * Used to add capture listener for specified event type. Capture listeners of a component receive {@link Event#isPropagating() propagating} events
+     * targeted to its child components before the target component does (see {@link org.liquidengine.legui.event.EventPhase#CAPTURE}).
+     *
+     * @param eventClass event class.
+     * @param listener listener to add for specified event.
+     * @param <E> event type.
+     */
+    public <E extends Event> void addCaptureListener(Class<E> eventClass, EventListener<E> listener) {
+        add(getCaptureTypeId(getEventTypeId(eventClass)), -1, listener);
+    }
+
+    /**
+     * Used to remove specified capture listener.
+     *
+     * @param eventClass event class.
+     * @param listener listener to remove.
+     * @param <E> event type.
+     */
+    public <E extends Event> void removeCaptureListener(Class<E> eventClass, EventListener<E> listener) {
+        remove(getCaptureTypeId(getEventTypeId(eventClass)), listener);
+    }
+
+    /**
+     * Returns capture listeners for event type with specified id as array. Returned array is shared and should not be modified. Doesn't allocate.
+     *
+     * @param eventTypeId event type id.
+     *
+     * @return capture listeners for specified event type or empty array.
+     * @see #getEventTypeId(Class)
+     */
+    public EventListener<?>[] getCaptureListenerArray(int eventTypeId) {
+        return getListenerArray(getCaptureTypeId(eventTypeId));
+    }
+
+    /**
+     * Capture listeners are stored under negative ids.
+     */
+    private static int getCaptureTypeId(int eventTypeId) {
+        return -1 - eventTypeId;
     }
 
     /**
@@ -67,13 +213,95 @@ public class ListenerMap {
      * @param <E> event type.
      */
     public <E extends Event> void removeAllListeners(Class<E> eventClass) {
-        listenerMap.remove(eventClass);
+        int eventTypeId = getEventTypeId(eventClass);
+        synchronized (this) {
+            set(eventTypeId, EMPTY);
+        }
+    }
+
+    private synchronized void add(int eventTypeId, int index, EventListener<?> listener) {
+        EventListener<?>[] listeners = getListenerArray(eventTypeId);
+        int position = index < 0 ? listeners.length : index;
+        if (position > listeners.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + listeners.length);
+        }
+        EventListener<?>[] newListeners = new EventListener<?>[listeners.length + 1];
+        System.arraycopy(listeners, 0, newListeners, 0, position);
+        newListeners[position] = listener;
+        System.arraycopy(listeners, position, newListeners, position + 1, listeners.length - position);
+        set(eventTypeId, newListeners);
+    }
+
+    private synchronized void removeAt(int eventTypeId, int index) {
+        EventListener<?>[] listeners = getListenerArray(eventTypeId);
+        EventListener<?>[] newListeners = listeners.length == 1 ? EMPTY : new EventListener<?>[listeners.length - 1];
+        System.arraycopy(listeners, 0, newListeners, 0, index);
+        System.arraycopy(listeners, index + 1, newListeners, index, listeners.length - index - 1);
+        set(eventTypeId, newListeners);
+    }
+
+    private synchronized boolean remove(int eventTypeId, Object listener) {
+        EventListener<?>[] listeners = getListenerArray(eventTypeId);
+        for (int i = 0; i < listeners.length; i++) {
+            if (Objects.equals(listener, listeners[i])) {
+                removeAt(eventTypeId, i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void replace(int eventTypeId, int index, EventListener<?> listener) {
+        EventListener<?>[] listeners = getListenerArray(eventTypeId);
+        EventListener<?>[] newListeners = listeners.clone();
+        newListeners[index] = listener;
+        set(eventTypeId, newListeners);
+    }
+
+    /**
+     * Used to replace listeners of event type. Should be called under lock of this map.
+     */
+    private void set(int eventTypeId, EventListener<?>[] listeners) {
+        Table current = table;
+        int index = current == null ? -1 : current.indexOf(eventTypeId);
+        if (index >= 0) {
+            if (listeners.length == 0 && current.ids.length == 1) {
+                table = null;
+            } else if (listeners.length == 0) {
+                table = current.without(index);
+            } else {
+                table = current.with(index, listeners);
+            }
+        } else if (listeners.length != 0) {
+            table = current == null ? new Table(new int[] {eventTypeId}, new EventListener<?>[][] {listeners}) : current.append(eventTypeId, listeners);
+        } else {
+            return;
+        }
+        Observer currentObserver = observer;
+        if (currentObserver != null) {
+            currentObserver.listenersChanged(this, eventTypeId);
+        }
+    }
+
+    /**
+     * Returns listeners as map, used by {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()}.
+     */
+    private Map<Integer, List<EventListener<?>>> toMap() {
+        Table current = table;
+        if (current == null) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, List<EventListener<?>>> map = new HashMap<>();
+        for (int i = 0; i < current.ids.length; i++) {
+            map.put(current.ids[i], Arrays.asList(current.listeners[i]));
+        }
+        return map;
     }
 
     @Override
     public int hashCode() {
         return new HashCodeBuilder(17, 37)
-            .append(listenerMap)
+            .append(toMap())
             .toHashCode();
     }
 
@@ -90,14 +318,152 @@ public class ListenerMap {
         ListenerMap that = (ListenerMap) obj;
 
         return new EqualsBuilder()
-            .append(listenerMap, that.listenerMap)
+            .append(toMap(), that.toMap())
             .isEquals();
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
-            .append("listenerMap", listenerMap)
+            .append("listenerMap", toMap())
             .toString();
     }
+
+    /**
+     * Used to receive notifications about changes of listeners of a listener map.
+     */
+    @FunctionalInterface
+    public interface Observer {
+
+        /**
+         * Called when listeners of specified event type are added or removed. Called while listener map is locked, so it should not change listeners.
+         *
+         * @param listenerMap listener map which was changed.
+         * @param eventTypeId id of changed event type (see {@link #getEventTypeId(Class)}). Capture listeners are reported with negative ids.
+         */
+        void listenersChanged(ListenerMap listenerMap, int eventTypeId);
+    }
+
+    /**
+     * Immutable table of event type ids and their listeners.
+     */
+    private static final class Table {
+
+        private final int[] ids;
+        private final EventListener<?>[][] listeners;
+
+        private Table(int[] ids, EventListener<?>[][] listeners) {
+            this.ids = ids;
+            this.listeners = listeners;
+        }
+
+        private int indexOf(int eventTypeId) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == eventTypeId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private Table with(int index, EventListener<?>[] eventListeners) {
+            EventListener<?>[][] newListeners = listeners.clone();
+            newListeners[index] = eventListeners;
+            return new Table(ids, newListeners);
+        }
+
+        private Table append(int eventTypeId, EventListener<?>[] eventListeners) {
+            int length = ids.length;
+            int[] newIds = Arrays.copyOf(ids, length + 1);
+            EventListener<?>[][] newListeners = Arrays.copyOf(listeners, length + 1);
+            newIds[length] = eventTypeId;
+            newListeners[length] = eventListeners;
+            return new Table(newIds, newListeners);
+        }
+
+        private Table without(int index) {
+            int length = ids.length;
+            int[] newIds = new int[length - 1];
+            EventListener<?>[][] newListeners = new EventListener<?>[length - 1][];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, length - index - 1);
+            System.arraycopy(listeners, 0, newListeners, 0, index);
+            System.arraycopy(listeners, index + 1, newListeners, index, length - index - 1);
+            return new Table(newIds, newListeners);
+        }
+    }
+
+    /**
+     * Mutable list view of listeners of single event type.
+     */
+    private final class ListenerList<E extends Event> extends AbstractList<EventListener<E>> {
+
+        private final int eventTypeId;
+
+        private ListenerList(int eventTypeId) {
+            this.eventTypeId = eventTypeId;
+        }
+
+        /**
+         * Listeners of this list are registered through {@link #addListener(Class, EventListener)} or this list, so all of them accept events of type E.
+         */
+        @SuppressWarnings("unchecked")
+        private EventListener<E>[] listeners() {
+            return (EventListener<E>[]) getListenerArray(eventTypeId);
+        }
+
+        @Override
+        public EventListener<E> get(int index) {
+            return listeners()[index];
+        }
+
+        @Override
+        public int size() {
+            return getListenerArray(eventTypeId).length;
+        }
+
+        @Override
+        public void add(int index, EventListener<E> element) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            ListenerMap.this.add(eventTypeId, index, element);
+        }
+
+        @Override
+        public EventListener<E> set(int index, EventListener<E> element) {
+            synchronized (ListenerMap.this) {
+                EventListener<E> replaced = listeners()[index];
+                replace(eventTypeId, index, element);
+                return replaced;
+            }
+        }
+
+        @Override
+        public EventListener<E> remove(int index) {
+            synchronized (ListenerMap.this) {
+                EventListener<E> removed = listeners()[index];
+                removeAt(eventTypeId, index);
+                return removed;
+            }
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return ListenerMap.this.remove(eventTypeId, o);
+        }
+
+        @Override
+        public void clear() {
+            synchronized (ListenerMap.this) {
+                ListenerMap.this.set(eventTypeId, EMPTY);
+            }
+        }
+
+        @Override
+        public Iterator<EventListener<E>> iterator() {
+            EventListener<E>[] snapshot = listeners();
+            return Collections.unmodifiableList(Arrays.asList(snapshot)).iterator();
+        }
+    }
 }
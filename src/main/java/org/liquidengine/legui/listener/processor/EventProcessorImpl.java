@@ -1,5 +1,6 @@
 package org.liquidengine.legui.listener.processor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -7,7 +8,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.event.Event;
+import org.liquidengine.legui.event.EventPhase;
 import org.liquidengine.legui.listener.EventListener;
+import org.liquidengine.legui.listener.ListenerMap;
 
 /**
  * Default implementation of event processor.
@@ -22,6 +25,11 @@ public class EventProcessorImpl implements EventProcessor {
     private Queue<Event> second = new ConcurrentLinkedQueue<>();
 
 
+    /**
+     * Path from the root component to the target of currently dispatched event. Reused between events.
+     */
+    private final List<Component> path = new ArrayList<>();
+
     /**
      * Should be called to process events.
      */
@@ -32,12 +40,65 @@ public class EventProcessorImpl implements EventProcessor {
         for (Event event = second.poll(); event != null; event = second.poll()) {
             Component targetComponent = event.getTargetComponent();
             if (targetComponent == null) {
-                return;
+                continue;
+            }
+            if (event.isPropagating()) {
+                propagate(event, targetComponent);
+            } else {
+                notify(event, targetComponent.getListenerMap().getListenerArray(event.getClass()));
+            }
+        }
+    }
+
+    /**
+     * Used to pass event to capture listeners of parent components of target component, then to listeners of target component and then to listeners of its
+     * parent components, until propagation is stopped.
+     *
+     * @param event           event to dispatch.
+     * @param targetComponent target component of event.
+     */
+    private void propagate(Event event, Component targetComponent) {
+        int eventTypeId = ListenerMap.getEventTypeId(event.getClass());
+        for (Component component = targetComponent; component != null; component = component.getParent()) {
+            path.add(component);
+        }
+        try {
+            for (int i = path.size() - 1; i > 0 && !event.isPropagationStopped(); i--) {
+                Component component = path.get(i);
+                event.setCurrentTarget(component, EventPhase.CAPTURE);
+                notify(event, component.getListenerMap().getCaptureListenerArray(eventTypeId));
+            }
+            if (!event.isPropagationStopped()) {
+                event.setCurrentTarget(targetComponent, EventPhase.AT_TARGET);
+                notify(event, targetComponent.getListenerMap().getCaptureListenerArray(eventTypeId));
+                if (!event.isPropagationStopped()) {
+                    notify(event, targetComponent.getListenerMap().getListenerArray(eventTypeId));
+                }
             }
-            List<? extends EventListener> listeners = targetComponent.getListenerMap().getListeners(event.getClass());
-            for (EventListener listener : listeners) {
-                listener.process(event);
+            for (int i = 1; i < path.size() && !event.isPropagationStopped(); i++) {
+                Component component = path.get(i);
+                event.setCurrentTarget(component, EventPhase.BUBBLE);
+                notify(event, component.getListenerMap().getListenerArray(eventTypeId));
+            }
+        } finally {
+            path.clear();
+        }
+    }
+
+    /**
+     * Used to pass event to listeners until it is consumed.
+     *
+     * @param event     event to pass.
+     * @param listeners listeners to notify.
+     */
+    @SuppressWarnings("unchecked")
+    private void notify(Event event, EventListener<?>[] listeners) {
+        for (EventListener<?> listener : listeners) {
+            if (event.isConsumed()) {
+                return;
             }
+            // listeners are registered for the class of the event, so they accept it
+            ((EventListener<Event<?>>) listener).process(event);
         }
     }
 
@@ -39,7 +39,7 @@ public final class EventProcessorProvider {
      * Instance holder.
      */
     private static class EventProcessorProviderHolder {
-        private static EventProcessor INSTANCE = new EventProcessorImpl();
+        private static EventProcessor INSTANCE = new FrameRoutingEventProcessor();
     }
     //@formatter:on
 
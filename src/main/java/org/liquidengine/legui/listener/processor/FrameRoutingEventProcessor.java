@@ -0,0 +1,57 @@
+package org.liquidengine.legui.listener.processor;
+
+import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.component.Frame;
+import org.liquidengine.legui.event.Event;
+
+/**
+ * Default event processor returned by {@link EventProcessorProvider}. Routes each pushed event to the event processor of the frame it belongs to (see
+ * {@link Frame#getRuntime()}), so every frame processes only its own events. Events which don't belong to any frame (e.g. events of components which are not
+ * added to a frame yet) are kept in a shared queue and are processed by {@link #processEvents()}.
+ */
+public class FrameRoutingEventProcessor implements EventProcessor {
+
+    /**
+     * Used to hold events without frame.
+     */
+    private final EventProcessor unbound = new EventProcessorImpl();
+
+    /**
+     * Used to process events which don't belong to any frame.
+     */
+    @Override
+    public void processEvents() {
+        unbound.processEvents();
+    }
+
+    /**
+     * Used to push event to the event processor of its frame.
+     *
+     * @param event event to push to event processor.
+     */
+    @Override
+    public void pushEvent(Event event) {
+        Frame frame = event.getFrame();
+        if (frame == null) {
+            Component targetComponent = event.getTargetComponent();
+            if (targetComponent != null) {
+                frame = targetComponent.getFrame();
+            }
+        }
+        if (frame == null) {
+            unbound.pushEvent(event);
+        } else {
+            frame.getRuntime().getEventProcessor().pushEvent(event);
+        }
+    }
+
+    /**
+     * Returns true if there are events without frame that should be processed.
+     *
+     * @return true if there are events without frame that should be processed.
+     */
+    @Override
+    public boolean hasEvents() {
+        return unbound.hasEvents();
+    }
+}
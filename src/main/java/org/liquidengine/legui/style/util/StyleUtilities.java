@@ -1,6 +1,6 @@
 package org.liquidengine.legui.style.util;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.style.Style;
@@ -87,14 +87,14 @@ public final class StyleUtilities {
      * @param componentPadding  component padding.
      * @return inner content rectangle represented with {@link Vector4f} where x,y - position, z,w - width and height.
      */
-    public static Vector4f getInnerContentRectangle(Vector2f componentPosition,
-                                                    Vector2f componentSize,
+    public static Vector4f getInnerContentRectangle(Vector2fc componentPosition,
+                                                    Vector2fc componentSize,
                                                     Vector4f componentPadding) {
         return new Vector4f(
-            componentPosition.x + componentPadding.x,
-            componentPosition.y + componentPadding.y,
-            componentSize.x - componentPadding.x - componentPadding.z,
-            componentSize.y - componentPadding.y - componentPadding.w
+            componentPosition.x() + componentPadding.x,
+            componentPosition.y() + componentPadding.y,
+            componentSize.x() - componentPadding.x - componentPadding.z,
+            componentSize.y() - componentPadding.y - componentPadding.w
         );
     }
 
@@ -129,14 +129,14 @@ public final class StyleUtilities {
         Style style = component.getStyle();
         T general = getter.apply(style);
         T value = general == null ? defaultValue : general;
-        if (component.isFocused() && getter.apply(component.getFocusedStyle()) != null) {
-            value = getter.apply(component.getFocusedStyle());
+        if (component.isFocused() && getter.apply(component.getFocusedStyleOrDefault()) != null) {
+            value = getter.apply(component.getFocusedStyleOrDefault());
         }
-        if (component.isHovered() && getter.apply(component.getHoveredStyle()) != null) {
-            value = getter.apply(component.getHoveredStyle());
+        if (component.isHovered() && getter.apply(component.getHoveredStyleOrDefault()) != null) {
+            value = getter.apply(component.getHoveredStyleOrDefault());
         }
-        if (component.isPressed() && getter.apply(component.getPressedStyle()) != null) {
-            value = getter.apply(component.getPressedStyle());
+        if (component.isPressed() && getter.apply(component.getPressedStyleOrDefault()) != null) {
+            value = getter.apply(component.getPressedStyleOrDefault());
         }
         return value;
     }
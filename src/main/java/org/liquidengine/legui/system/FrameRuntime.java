@@ -0,0 +1,91 @@
+package org.liquidengine.legui.system;
+
+import org.liquidengine.legui.animation.Animator;
+import org.liquidengine.legui.animation.AnimatorImpl;
+import org.liquidengine.legui.listener.processor.EventProcessor;
+import org.liquidengine.legui.listener.processor.EventProcessorImpl;
+import org.liquidengine.legui.system.layout.DefaultLayoutManager;
+import org.liquidengine.legui.system.layout.LayoutManager;
+
+/**
+ * UI runtime of a single frame. Holds the event processor, animator and layout manager used by components of this frame, so that frames which are
+ * associated with different windows don't share event queues or animation timing.
+ * <p>
+ * Events pushed to {@link org.liquidengine.legui.listener.processor.EventProcessorProvider#getInstance()} are routed to the event processor of the frame
+ * they belong to, and animations which target a component are moved to the animator of the frame that component is added to.
+ */
+public class FrameRuntime {
+
+    /**
+     * Event processor of the frame.
+     */
+    private EventProcessor eventProcessor = new EventProcessorImpl();
+    /**
+     * Animator of the frame.
+     */
+    private Animator animator = new AnimatorImpl();
+    /**
+     * Layout manager of the frame.
+     */
+    private LayoutManager layoutManager = new DefaultLayoutManager();
+
+    /**
+     * Returns event processor of the frame.
+     *
+     * @return event processor of the frame.
+     */
+    public EventProcessor getEventProcessor() {
+        return eventProcessor;
+    }
+
+    /**
+     * Used to set event processor of the frame.
+     *
+     * @param eventProcessor event processor to set.
+     */
+    public void setEventProcessor(EventProcessor eventProcessor) {
+        if (eventProcessor != null) {
+            this.eventProcessor = eventProcessor;
+        }
+    }
+
+    /**
+     * Returns animator of the frame.
+     *
+     * @return animator of the frame.
+     */
+    public Animator getAnimator() {
+        return animator;
+    }
+
+    /**
+     * Used to set animator of the frame.
+     *
+     * @param animator animator to set.
+     */
+    public void setAnimator(Animator animator) {
+        if (animator != null) {
+            this.animator = animator;
+        }
+    }
+
+    /**
+     * Returns layout manager of the frame.
+     *
+     * @return layout manager of the frame.
+     */
+    public LayoutManager getLayoutManager() {
+        return layoutManager;
+    }
+
+    /**
+     * Used to set layout manager of the frame.
+     *
+     * @param layoutManager layout manager to set.
+     */
+    public void setLayoutManager(LayoutManager layoutManager) {
+        if (layoutManager != null) {
+            this.layoutManager = layoutManager;
+        }
+    }
+}
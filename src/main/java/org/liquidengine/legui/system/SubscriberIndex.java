@@ -0,0 +1,106 @@
+package org.liquidengine.legui.system;
+
+import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.component.Frame;
+import org.liquidengine.legui.component.Layer;
+import org.liquidengine.legui.event.Event;
+import org.liquidengine.legui.listener.ListenerMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of components of a frame which have listeners for specific event type. Used to broadcast events (for example window events) only to components
+ * which are subscribed to them instead of walking whole component tree.
+ * <p>
+ * Subscribers are collected per layer and event type on first request and cached. When listeners of a component are changed only the entry of its layer and
+ * that event type is dropped, and when components are added to or removed from a layer only entries of that layer are dropped, so changes in one frame or
+ * layer never affect others. Subscribers are listed in the same order as component tree is traversed (parent before child components). Visibility is not
+ * taken into account, so it should be checked by caller.
+ */
+public class SubscriberIndex {
+
+    private final Frame frame;
+    private final Map<Layer, Map<Integer, List<Component>>> subscribers = new IdentityHashMap<>();
+
+    /**
+     * Creates subscriber index of specified frame.
+     *
+     * @param frame frame to index.
+     */
+    public SubscriberIndex(Frame frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Used to mark whole index as outdated. Called when default layers of the frame are replaced.
+     */
+    public void invalidate() {
+        subscribers.clear();
+    }
+
+    /**
+     * Used to mark subscribers of specified layer as outdated. Called when layer is added to or removed from the frame or components are added to or removed
+     * from the layer.
+     *
+     * @param layer layer of the frame.
+     */
+    public void invalidate(Layer layer) {
+        subscribers.remove(layer);
+    }
+
+    /**
+     * Used to mark subscribers of specified event type in specified layer as outdated. Called when listeners of a component of the layer are changed.
+     *
+     * @param layer       layer of the frame.
+     * @param eventTypeId event type id (see {@link ListenerMap#getEventTypeId(Class)}).
+     */
+    public void invalidate(Layer layer, int eventTypeId) {
+        Map<Integer, List<Component>> layerSubscribers = subscribers.get(layer);
+        if (layerSubscribers != null) {
+            layerSubscribers.remove(eventTypeId);
+        }
+    }
+
+    /**
+     * Returns components of layer which have listeners for specified event type, including layer itself.
+     *
+     * @param layer      layer of the frame.
+     * @param eventClass event type.
+     * @return components which have listeners for specified event type. Returned list should not be modified.
+     */
+    public List<Component> getSubscribers(Layer layer, Class<? extends Event> eventClass) {
+        if (layer.getFrame() != frame) {
+            return Collections.emptyList();
+        }
+        Map<Integer, List<Component>> layerSubscribers = subscribers.get(layer);
+        if (layerSubscribers == null) {
+            layerSubscribers = new HashMap<>();
+            subscribers.put(layer, layerSubscribers);
+        }
+        Integer eventTypeId = ListenerMap.getEventTypeId(eventClass);
+        List<Component> components = layerSubscribers.get(eventTypeId);
+        if (components == null) {
+            components = new ArrayList<>();
+            collect(layer, eventClass, components);
+            if (components.isEmpty()) {
+                components = Collections.emptyList();
+            }
+            layerSubscribers.put(eventTypeId, components);
+        }
+        return components;
+    }
+
+    private static void collect(Component component, Class<? extends Event> eventClass, List<Component> components) {
+        if (component.getListenerMap().hasListeners(eventClass)) {
+            components.add(component);
+        }
+        for (int i = 0; i < component.count(); i++) {
+            collect(component.getChild(i), eventClass, components);
+        }
+    }
+}
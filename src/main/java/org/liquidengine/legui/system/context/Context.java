@@ -6,6 +6,7 @@ import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.config.Configuration;
 import org.liquidengine.legui.event.FocusEvent;
+import org.liquidengine.legui.input.MouseState;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 
 import java.util.Map;
@@ -29,9 +30,11 @@ public class Context {
     private transient float pixelRatio;
     private Component mouseTargetGui;
     private Component focusedGui;
+    private Component pointerCaptureGui;
     private boolean debugEnabled;
     private boolean iconified;
     private final Map<String, Object> contextData = new ConcurrentHashMap<>();
+    private final MouseState mouseState = new MouseState();
 
     /**
      * Instantiates a new Context.
@@ -84,6 +87,15 @@ public class Context {
         return contextData;
     }
 
+    /**
+     * Returns mouse state of this context (cursor position and pressed buttons).
+     *
+     * @return the mouse state
+     */
+    public MouseState getMouseState() {
+        return mouseState;
+    }
+
     /**
      * Update glfw window.
      */
@@ -242,6 +254,55 @@ public class Context {
         this.mouseTargetGui = mouseTargetGui;
     }
 
+    /**
+     * Returns component which captured the pointer.
+     *
+     * @return component which captured the pointer or null.
+     */
+    public Component getPointerCaptureGui() {
+        return pointerCaptureGui;
+    }
+
+    /**
+     * Used to capture the pointer. While the pointer is captured, mouse drag events are sent to the capturing component instead of the focused one. The
+     * capture is released automatically when all mouse buttons are released or when the component is removed from the frame.
+     * <p>
+     * Pressing a mouse button on a component without child components captures the pointer for it. Other component could take the capture while the button
+     * is held.
+     *
+     * @param component component which should capture the pointer.
+     */
+    public void setPointerCapture(Component component) {
+        this.pointerCaptureGui = component;
+    }
+
+    /**
+     * Used to release pointer capture.
+     */
+    public void releasePointerCapture() {
+        this.pointerCaptureGui = null;
+    }
+
+    /**
+     * Used to release pointer capture if it is held by the specified component.
+     *
+     * @param component component which holds the capture.
+     */
+    public void releasePointerCapture(Component component) {
+        if (this.pointerCaptureGui == component) {
+            this.pointerCaptureGui = null;
+        }
+    }
+
+    /**
+     * Returns component which should receive mouse drag events: the component which captured the pointer, or the focused component.
+     *
+     * @return drag target or null.
+     */
+    public Component getDragTargetGui() {
+        return pointerCaptureGui != null ? pointerCaptureGui : focusedGui;
+    }
+
     /**
      * Returns window iconified state.
      *
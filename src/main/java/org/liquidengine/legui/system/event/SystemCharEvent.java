@@ -5,13 +5,22 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * Created by Shcherbin Alexander on 6/10/2016.
+ * <p>
+ * Instances dispatched by the system event processor are reused, so handlers should not keep references to them.
  */
 public class SystemCharEvent implements SystemEvent {
 
-    public final long window;
-    public final int codepoint;
+    public long window;
+    public int codepoint;
 
     public SystemCharEvent(long window, int codepoint) {
+        set(window, codepoint);
+    }
+
+    /**
+     * Used by {@link SystemEventQueue} to reuse this instance for the next queued event.
+     */
+    void set(long window, int codepoint) {
         this.window = window;
         this.codepoint = codepoint;
     }
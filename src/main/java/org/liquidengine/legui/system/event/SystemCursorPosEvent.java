@@ -5,16 +5,25 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * Created by Shcherbin Alexander on 6/10/2016.
+ * <p>
+ * Instances dispatched by the system event processor are reused, so handlers should not keep references to them.
  */
 public class SystemCursorPosEvent implements SystemEvent {
 
-    public final long window;
-    public final double xpos;
-    public final double ypos;
-    public final float fx;
-    public final float fy;
+    public long window;
+    public double xpos;
+    public double ypos;
+    public float fx;
+    public float fy;
 
     public SystemCursorPosEvent(long window, double xpos, double ypos) {
+        set(window, xpos, ypos);
+    }
+
+    /**
+     * Used by {@link SystemEventQueue} to reuse this instance for the next queued event.
+     */
+    void set(long window, double xpos, double ypos) {
         this.window = window;
         this.xpos = xpos;
         this.ypos = ypos;
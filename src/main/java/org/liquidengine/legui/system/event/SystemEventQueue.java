@@ -0,0 +1,378 @@
+package org.liquidengine.legui.system.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-producer/single-consumer ring buffer of system events.
+ * <p>
+ * High-rate input events (cursor position, scroll, mouse button, key and char) are stored as primitives in preallocated arrays, so pushing them doesn't
+ * allocate. When they are polled, one reused event instance per type is filled from the buffer, so the returned event is only valid until the next call
+ * to {@link #poll()}. Other events are stored by reference.
+ * <p>
+ * If the buffer is full, events are stored in an unbounded overflow queue until the consumer catches up, so no events are lost and their order is kept.
+ */
+public class SystemEventQueue {
+
+    /**
+     * Default capacity of the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int CHAR = SystemEventType.CHAR.ordinal();
+    private static final int CURSOR_POS = SystemEventType.CURSOR_POS.ordinal();
+    private static final int KEY = SystemEventType.KEY.ordinal();
+    private static final int MOUSE_CLICK = SystemEventType.MOUSE_CLICK.ordinal();
+    private static final int SCROLL = SystemEventType.SCROLL.ordinal();
+
+    private final int capacity;
+    private final int mask;
+
+    private final int[] types;
+    private final long[] windows;
+    private final double[] doubles0;
+    private final double[] doubles1;
+    private final int[] ints0;
+    private final int[] ints1;
+    private final int[] ints2;
+    private final int[] ints3;
+    private final Object[] objects;
+
+    /**
+     * Index of the next event to poll. Written only by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+    /**
+     * Index of the next free slot. Written only by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    private final Queue<SystemEvent> overflow = new ConcurrentLinkedQueue<>();
+
+    private final SystemCharEvent charEvent = new SystemCharEvent(0, 0);
+    private final SystemCursorPosEvent cursorPosEvent = new SystemCursorPosEvent(0, 0, 0);
+    private final SystemKeyEvent keyEvent = new SystemKeyEvent(0, 0, 0, 0, 0);
+    private final SystemMouseClickEvent mouseClickEvent = new SystemMouseClickEvent(0, 0, 0, 0);
+    private final SystemScrollEvent scrollEvent = new SystemScrollEvent(0, 0, 0);
+
+    private int polledType = -1;
+    private int polledCount;
+
+    private volatile boolean coalescing;
+    private long coalescedCount;
+
+    /**
+     * Creates queue with default capacity.
+     */
+    public SystemEventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates queue with specified capacity. Capacity is rounded up to a power of two.
+     *
+     * @param capacity capacity of the ring buffer.
+     */
+    public SystemEventQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive, got " + capacity);
+        }
+        int rounded = 1;
+        while (rounded < capacity) {
+            rounded <<= 1;
+        }
+        this.capacity = rounded;
+        this.mask = this.capacity - 1;
+
+        types = new int[this.capacity];
+        windows = new long[this.capacity];
+        doubles0 = new double[this.capacity];
+        doubles1 = new double[this.capacity];
+        ints0 = new int[this.capacity];
+        ints1 = new int[this.capacity];
+        ints2 = new int[this.capacity];
+        ints3 = new int[this.capacity];
+        objects = new Object[this.capacity];
+    }
+
+    /**
+     * Returns index of the slot to write next event to, or -1 if the event should go to the overflow queue.
+     */
+    private int claim() {
+        long t = tail.get();
+        if (!overflow.isEmpty() || t - head.get() >= capacity) {
+            return -1;
+        }
+        return (int) t & mask;
+    }
+
+    private void publish() {
+        tail.lazySet(tail.get() + 1);
+    }
+
+    /**
+     * Used to push cursor position event.
+     *
+     * @param window window.
+     * @param xpos   cursor x position.
+     * @param ypos   cursor y position.
+     */
+    public void pushCursorPos(long window, double xpos, double ypos) {
+        int i = claim();
+        if (i < 0) {
+            overflow.add(new SystemCursorPosEvent(window, xpos, ypos));
+            return;
+        }
+        types[i] = CURSOR_POS;
+        windows[i] = window;
+        doubles0[i] = xpos;
+        doubles1[i] = ypos;
+        publish();
+    }
+
+    /**
+     * Used to push scroll event.
+     *
+     * @param window  window.
+     * @param xoffset x offset.
+     * @param yoffset y offset.
+     */
+    public void pushScroll(long window, double xoffset, double yoffset) {
+        int i = claim();
+        if (i < 0) {
+            overflow.add(new SystemScrollEvent(window, xoffset, yoffset));
+            return;
+        }
+        types[i] = SCROLL;
+        windows[i] = window;
+        doubles0[i] = xoffset;
+        doubles1[i] = yoffset;
+        publish();
+    }
+
+    /**
+     * Used to push mouse button event.
+     *
+     * @param window window.
+     * @param button mouse button.
+     * @param action action.
+     * @param mods   modifiers.
+     */
+    public void pushMouseClick(long window, int button, int action, int mods) {
+        int i = claim();
+        if (i < 0) {
+            overflow.add(new SystemMouseClickEvent(window, button, action, mods));
+            return;
+        }
+        types[i] = MOUSE_CLICK;
+        windows[i] = window;
+        ints0[i] = button;
+        ints1[i] = action;
+        ints2[i] = mods;
+        publish();
+    }
+
+    /**
+     * Used to push key event.
+     *
+     * @param window   window.
+     * @param key      key.
+     * @param scancode scancode.
+     * @param action   action.
+     * @param mods     modifiers.
+     */
+    public void pushKey(long window, int key, int scancode, int action, int mods) {
+        int i = claim();
+        if (i < 0) {
+            overflow.add(new SystemKeyEvent(window, key, scancode, action, mods));
+            return;
+        }
+        types[i] = KEY;
+        windows[i] = window;
+        ints0[i] = key;
+        ints1[i] = scancode;
+        ints2[i] = action;
+        ints3[i] = mods;
+        publish();
+    }
+
+    /**
+     * Used to push char event.
+     *
+     * @param window    window.
+     * @param codepoint codepoint.
+     */
+    public void pushChar(long window, int codepoint) {
+        int i = claim();
+        if (i < 0) {
+            overflow.add(new SystemCharEvent(window, codepoint));
+            return;
+        }
+        types[i] = CHAR;
+        windows[i] = window;
+        ints0[i] = codepoint;
+        publish();
+    }
+
+    /**
+     * Used to push any system event. The event is stored by reference.
+     *
+     * @param event event to push.
+     */
+    public void push(SystemEvent event) {
+        int i = claim();
+        if (i < 0) {
+            overflow.add(event);
+            return;
+        }
+        SystemEventType type = SystemEventType.of(event.getClass());
+        types[i] = type == null ? -1 : type.ordinal();
+        objects[i] = event;
+        publish();
+    }
+
+    /**
+     * Retrieves and removes next event. Events of high-rate types are returned as reused instances which are valid only until the next call.
+     *
+     * @return next event or null if queue is empty.
+     */
+    public SystemEvent poll() {
+        long h = head.get();
+        if (h < tail.get()) {
+            int i = (int) h & mask;
+            int type = types[i];
+            int consumed = 1;
+            SystemEvent event;
+            Object object = objects[i];
+            if (object != null) {
+                objects[i] = null;
+                event = (SystemEvent) object;
+            } else if (type == CURSOR_POS || type == SCROLL) {
+                double value0 = doubles0[i];
+                double value1 = doubles1[i];
+                if (coalescing) {
+                    // merge following events of the same type and window, keeping the last cursor position and summing scroll offsets
+                    long t = tail.get();
+                    for (long n = h + 1; n < t; n++) {
+                        int j = (int) n & mask;
+                        if (types[j] != type || objects[j] != null || windows[j] != windows[i]) {
+                            break;
+                        }
+                        if (type == CURSOR_POS) {
+                            value0 = doubles0[j];
+                            value1 = doubles1[j];
+                        } else {
+                            value0 += doubles0[j];
+                            value1 += doubles1[j];
+                        }
+                        consumed++;
+                    }
+                }
+                if (type == CURSOR_POS) {
+                    cursorPosEvent.set(windows[i], value0, value1);
+                    event = cursorPosEvent;
+                } else {
+                    scrollEvent.set(windows[i], value0, value1);
+                    event = scrollEvent;
+                }
+            } else if (type == MOUSE_CLICK) {
+                mouseClickEvent.set(windows[i], ints0[i], ints1[i], ints2[i]);
+                event = mouseClickEvent;
+            } else if (type == KEY) {
+                keyEvent.set(windows[i], ints0[i], ints1[i], ints2[i], ints3[i]);
+                event = keyEvent;
+            } else {
+                charEvent.set(windows[i], ints0[i]);
+                event = charEvent;
+            }
+            polledType = type;
+            polledCount = consumed;
+            coalescedCount += consumed - 1;
+            head.lazySet(h + consumed);
+            return event;
+        }
+
+        SystemEvent event = overflow.poll();
+        if (event != null) {
+            SystemEventType type = SystemEventType.of(event.getClass());
+            polledType = type == null ? -1 : type.ordinal();
+            polledCount = 1;
+        }
+        return event;
+    }
+
+    /**
+     * Returns number of queued events consumed by the last call to {@link #poll()}. Greater than one if events were coalesced.
+     *
+     * @return number of consumed events.
+     */
+    public int getPolledCount() {
+        return polledCount;
+    }
+
+    /**
+     * Returns true if consecutive cursor position and scroll events are coalesced.
+     *
+     * @return true if coalescing is enabled.
+     */
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Used to enable coalescing of consecutive cursor position events (only the last position is kept) and scroll events (offsets are summed). Only events
+     * of the same window which directly follow each other are merged, so their order relative to other events is kept.
+     *
+     * @param coalescing true to enable coalescing.
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Returns total number of events which were merged into other events.
+     *
+     * @return number of coalesced events.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns {@link SystemEventType} ordinal of the event returned by the last call to {@link #poll()}.
+     *
+     * @return type ordinal or -1 if event is not a default system event.
+     */
+    public int getPolledType() {
+        return polledType;
+    }
+
+    /**
+     * Returns number of queued events.
+     *
+     * @return number of queued events.
+     */
+    public int size() {
+        int size = (int) (tail.get() - head.get());
+        return overflow.isEmpty() ? size : size + overflow.size();
+    }
+
+    /**
+     * Returns true if there are no queued events.
+     *
+     * @return true if there are no queued events.
+     */
+    public boolean isEmpty() {
+        return tail.get() == head.get() && overflow.isEmpty();
+    }
+
+    /**
+     * Returns capacity of the ring buffer.
+     *
+     * @return capacity of the ring buffer.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
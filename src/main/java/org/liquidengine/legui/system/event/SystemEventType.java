@@ -0,0 +1,78 @@
+package org.liquidengine.legui.system.event;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Types of system events. Used to look up system event handlers by ordinal instead of by event class.
+ */
+public enum SystemEventType {
+    CHAR(SystemCharEvent.class),
+    CHAR_MODS(SystemCharModsEvent.class),
+    CURSOR_ENTER(SystemCursorEnterEvent.class),
+    CURSOR_POS(SystemCursorPosEvent.class),
+    DROP(SystemDropEvent.class),
+    FRAMEBUFFER_SIZE(SystemFramebufferSizeEvent.class),
+    KEY(SystemKeyEvent.class),
+    MOUSE_CLICK(SystemMouseClickEvent.class),
+    SCROLL(SystemScrollEvent.class),
+    WINDOW_CLOSE(SystemWindowCloseEvent.class),
+    WINDOW_FOCUS(SystemWindowFocusEvent.class),
+    WINDOW_ICONIFY(SystemWindowIconifyEvent.class),
+    WINDOW_POS(SystemWindowPosEvent.class),
+    WINDOW_REFRESH(SystemWindowRefreshEvent.class),
+    WINDOW_SIZE(SystemWindowSizeEvent.class);
+
+    private static final SystemEventType[] VALUES = values();
+    private static final Map<Class<? extends SystemEvent>, SystemEventType> BY_CLASS = new HashMap<>();
+
+    static {
+        for (SystemEventType type : VALUES) {
+            BY_CLASS.put(type.eventClass, type);
+        }
+    }
+
+    private final Class<? extends SystemEvent> eventClass;
+
+    SystemEventType(Class<? extends SystemEvent> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    /**
+     * Returns type of the specified system event class.
+     *
+     * @param eventClass system event class.
+     * @return type of the event class or null if it is not a default system event.
+     */
+    public static SystemEventType of(Class<? extends SystemEvent> eventClass) {
+        return BY_CLASS.get(eventClass);
+    }
+
+    /**
+     * Returns type with specified ordinal.
+     *
+     * @param ordinal ordinal of the type.
+     * @return type with specified ordinal.
+     */
+    public static SystemEventType byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns number of system event types.
+     *
+     * @return number of system event types.
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * Returns system event class of this type.
+     *
+     * @return system event class.
+     */
+    public Class<? extends SystemEvent> getEventClass() {
+        return eventClass;
+    }
+}
@@ -5,16 +5,25 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * Created by Shcherbin Alexander on 6/10/2016.
+ * <p>
+ * Instances dispatched by the system event processor are reused, so handlers should not keep references to them.
  */
 public class SystemKeyEvent implements SystemEvent {
 
-    public final long window;
-    public final int key;
-    public final int scancode;
-    public final int action;
-    public final int mods;
+    public long window;
+    public int key;
+    public int scancode;
+    public int action;
+    public int mods;
 
     public SystemKeyEvent(long window, int key, int scancode, int action, int mods) {
+        set(window, key, scancode, action, mods);
+    }
+
+    /**
+     * Used by {@link SystemEventQueue} to reuse this instance for the next queued event.
+     */
+    void set(long window, int key, int scancode, int action, int mods) {
         this.window = window;
         this.key = key;
         this.scancode = scancode;
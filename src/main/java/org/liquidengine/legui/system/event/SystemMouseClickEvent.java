@@ -5,15 +5,24 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * Created by Shcherbin Alexander on 6/10/2016.
+ * <p>
+ * Instances dispatched by the system event processor are reused, so handlers should not keep references to them.
  */
 public class SystemMouseClickEvent implements SystemEvent {
 
-    public final long window;
-    public final int button;
-    public final int action;
-    public final int mods;
+    public long window;
+    public int button;
+    public int action;
+    public int mods;
 
     public SystemMouseClickEvent(long window, int button, int action, int mods) {
+        set(window, button, action, mods);
+    }
+
+    /**
+     * Used by {@link SystemEventQueue} to reuse this instance for the next queued event.
+     */
+    void set(long window, int button, int action, int mods) {
         this.window = window;
         this.button = button;
         this.action = action;
@@ -5,14 +5,23 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * Created by Shcherbin Alexander on 6/10/2016.
+ * <p>
+ * Instances dispatched by the system event processor are reused, so handlers should not keep references to them.
  */
 public class SystemScrollEvent implements SystemEvent {
 
-    public final long window;
-    public final double xoffset;
-    public final double yoffset;
+    public long window;
+    public double xoffset;
+    public double yoffset;
 
     public SystemScrollEvent(long window, double xoffset, double yoffset) {
+        set(window, xoffset, yoffset);
+    }
+
+    /**
+     * Used by {@link SystemEventQueue} to reuse this instance for the next queued event.
+     */
+    void set(long window, double xoffset, double yoffset) {
         this.window = window;
         this.xoffset = xoffset;
         this.yoffset = yoffset;
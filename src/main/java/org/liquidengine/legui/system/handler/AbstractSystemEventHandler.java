@@ -6,9 +6,6 @@ import org.liquidengine.legui.event.Event;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemEvent;
 
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Abstract handler for {@link SystemEvent}s. Used to handle events and transform them to UI events (Subclasses of {@link Event}).
  */
@@ -24,9 +21,8 @@ public abstract class AbstractSystemEventHandler<E extends SystemEvent> implemen
      */
     public final void handle(E event, Frame frame, Context context) {
         preHandle(event, frame, context);
-        List<Layer> layers = frame.getAllLayers();
-        Collections.reverse(layers);
-        for (Layer layer : layers) {
+        for (int i = frame.getLayerCount() - 1; i >= 0; i--) {
+            Layer layer = frame.getLayer(i);
             if (layer.isEventReceivable()) {
                 if (!layer.isVisible() || !layer.isEnabled()) {
                     continue;
@@ -5,15 +5,13 @@ import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.component.Layer;
 import org.liquidengine.legui.event.CursorEnterEvent;
-import org.liquidengine.legui.event.Event;
 import org.liquidengine.legui.event.MouseDragEvent;
 import org.liquidengine.legui.input.Mouse;
+import org.liquidengine.legui.input.MouseState;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemCursorPosEvent;
-
-import java.util.Collections;
-import java.util.List;
+import org.liquidengine.legui.system.event.SystemEvent;
 
 /**
  * Cursor position event handler.
@@ -28,14 +26,14 @@ public class CursorPosEventHandler extends AbstractSystemEventHandler<SystemCurs
      * @param context context
      */
     protected void preHandle(SystemCursorPosEvent event, Frame frame, Context context) {
+        MouseState mouseState = context.getMouseState();
+        mouseState.moveCursor(event.fx, event.fy);
+        Mouse.setState(mouseState);
         Vector2f cursorPosition = new Vector2f(event.fx, event.fy);
-        Mouse.setCursorPositionPrev(new Vector2f(Mouse.getCursorPosition()));
-        Mouse.setCursorPosition(cursorPosition);
 
-        List<Layer> allLayers = frame.getAllLayers();
-        Collections.reverse(allLayers);
         Component targetComponent = null;
-        for (Layer layer : allLayers) {
+        for (int i = frame.getLayerCount() - 1; i >= 0; i--) {
+            Layer layer = frame.getLayer(i);
             if (!layer.isEventReceivable() || !layer.isVisible() || !layer.isEnabled()) {
                 continue;
             }
@@ -48,58 +46,85 @@ public class CursorPosEventHandler extends AbstractSystemEventHandler<SystemCurs
         context.setMouseTargetGui(targetComponent);
         if (targetComponent != prevTarget) {
             if (prevTarget != null) {
-                Vector2f curPosInPrevTarget = prevTarget.getAbsolutePosition().sub(cursorPosition).negate();
+                Vector2f curPosInPrevTarget = new Vector2f(cursorPosition).sub(prevTarget.getAbsolutePositionView());
                 CursorEnterEvent exitEvent = new CursorEnterEvent(prevTarget, context, frame, false, curPosInPrevTarget, cursorPosition);
                 EventProcessorProvider.getInstance().pushEvent(exitEvent);
                 prevTarget.setHovered(false);
             }
             if (targetComponent != null) {
                 targetComponent.setHovered(true);
-                Vector2f curPosInComponent = targetComponent.getAbsolutePosition().sub(cursorPosition).negate();
+                Vector2f curPosInComponent = new Vector2f(cursorPosition).sub(targetComponent.getAbsolutePositionView());
                 CursorEnterEvent enterEvent = new CursorEnterEvent(targetComponent, context, frame, true, curPosInComponent, cursorPosition);
                 EventProcessorProvider.getInstance().pushEvent(enterEvent);
             }
         }
+
+        pushDragEvent(frame, context);
     }
 
     /**
-     * Used to handle {@link SystemCursorPosEvent} and produce (or not) {@link Event} instances (which are UI events).
+     * Used to push {@link MouseDragEvent} straight to the component which captured the pointer or to the focused component, so the cost of cursor move
+     * doesn't depend on the number of components.
      *
-     * @param event   event to be processed.
-     * @param layer   target event layer.
-     * @param context context.
      * @param frame   frame.
-     * @return true if event processed and it shouldn't be processed for other underlying layers.
+     * @param context context.
      */
-    @Override
-    protected boolean handle(SystemCursorPosEvent event, Layer layer, Context context, Frame frame) {
-        List<Component> childComponents = layer.getChildComponents();
-        for (Component child : childComponents) {
-            handle(child, context, frame);
+    private void pushDragEvent(Frame frame, Context context) {
+        MouseState mouseState = context.getMouseState();
+        if (!mouseState.isPressed(Mouse.MouseButton.MOUSE_BUTTON_LEFT) && !mouseState.isPressed(Mouse.MouseButton.MOUSE_BUTTON_RIGHT)) {
+            return;
         }
-        return false;
+
+        Component captured = context.getPointerCaptureGui();
+        if (captured != null && captured.getFrame() != frame) {
+            context.releasePointerCapture();
+            captured = null;
+        }
+
+        Component target;
+        if (captured != null) {
+            target = captured;
+        } else {
+            // Without capture only focused leaf components receive drag events
+            target = context.getFocusedGui();
+            if (target == null || !target.isEmpty()) {
+                return;
+            }
+        }
+
+        Layer layer = target.getLayer();
+        if (layer == null || layer.getFrame() != frame || !isLayerReachable(layer, frame)) {
+            return;
+        }
+
+        Vector2f delta = new Vector2f(mouseState.getCursorDeltaX(), mouseState.getCursorDeltaY());
+        EventProcessorProvider.getInstance().pushEvent(new MouseDragEvent(target, context, frame, delta));
     }
 
     /**
-     * Used to handle event for specific component.
+     * Checks if events reach specified layer in the same way as {@link AbstractSystemEventHandler#handle(SystemEvent, Frame, Context)} passes them: layer
+     * should receive events and all receiving layers above it should be passable.
      *
-     * @param component component.
-     * @param context   context.
-     * @param frame     frame.
+     * @param target layer to check.
+     * @param frame  frame of the layer.
+     * @return true if events reach the layer.
      */
-    private void handle(Component component, Context context, Frame frame) {
-        if (component.isEmpty()) {
-            if ((Mouse.MouseButton.MOUSE_BUTTON_LEFT.isPressed() || Mouse.MouseButton.MOUSE_BUTTON_RIGHT.isPressed()) &&
-	            component == context.getFocusedGui()) {
-                Vector2f delta = Mouse.getCursorPosition().sub(Mouse.getCursorPositionPrev());
-                EventProcessorProvider.getInstance().pushEvent(new MouseDragEvent(component, context, frame, delta));
+    private boolean isLayerReachable(Layer target, Frame frame) {
+        for (int i = frame.getLayerCount() - 1; i >= 0; i--) {
+            Layer layer = frame.getLayer(i);
+            if (layer.isEventReceivable()) {
+                if (!layer.isVisible() || !layer.isEnabled()) {
+                    continue;
+                }
+                if (layer == target) {
+                    return true;
+                }
             }
-        } else {
-            List<Component> childComponents = component.getChildComponents();
-            for (Component child : childComponents) {
-                handle(child, context, frame);
+            if (!layer.isEventPassable()) {
+                return false;
             }
         }
+        return false;
     }
 
 }
@@ -4,7 +4,6 @@ import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.component.Layer;
 import org.liquidengine.legui.event.DropEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemDropEvent;
@@ -18,12 +17,15 @@ import java.util.stream.Collectors;
  */
 public class DropEventHandler extends AbstractSystemEventHandler<SystemDropEvent> {
 
+    /**
+     * Pushes single {@link DropEvent} to the top component under cursor. The event then propagates through parent components of the target.
+     */
     @Override
     protected boolean handle(SystemDropEvent event, Layer layer, Context context, Frame frame) {
-        List<Component> targetComponentList = SehUtil.getTargetComponentList(layer, Mouse.getCursorPosition());
-        List<String> strings = Arrays.stream(event.strings).collect(Collectors.toList());
-        for (Component component : targetComponentList) {
-            EventProcessorProvider.getInstance().pushEvent(new DropEvent<>(component, context, frame, strings));
+        Component target = SehUtil.getTopComponent(layer, context.getMouseState().getCursorPosition());
+        if (target != null) {
+            List<String> strings = Arrays.stream(event.strings).collect(Collectors.toList());
+            EventProcessorProvider.getInstance().pushEvent(new DropEvent<>(target, context, frame, strings));
         }
         return false;
     }
@@ -5,8 +5,6 @@ import static org.liquidengine.legui.event.MouseClickEvent.MouseClickAction.PRES
 import static org.liquidengine.legui.event.MouseClickEvent.MouseClickAction.RELEASE;
 import static org.lwjgl.glfw.GLFW.GLFW_RELEASE;
 
-import java.util.Collections;
-import java.util.List;
 import org.joml.Vector2f;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
@@ -15,6 +13,7 @@ import org.liquidengine.legui.component.Widget;
 import org.liquidengine.legui.event.FocusEvent;
 import org.liquidengine.legui.event.MouseClickEvent;
 import org.liquidengine.legui.input.Mouse;
+import org.liquidengine.legui.input.MouseState;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.style.Style.DisplayType;
 import org.liquidengine.legui.system.context.Context;
@@ -28,17 +27,20 @@ public class MouseClickEventHandler implements SystemEventHandler<SystemMouseCli
 
     @Override
     public void handle(SystemMouseClickEvent event, Frame frame, Context ctx) {
+        MouseState mouseState = ctx.getMouseState();
+        Mouse.setState(mouseState);
         Mouse.MouseButton btn = Mouse.MouseButton.getByCode(event.button);
-        btn.setPressed(event.action != GLFW_RELEASE);
-        Vector2f cursorPos = Mouse.getCursorPosition();
-        btn.setPressPosition(cursorPos);
-
-        List<Layer> layers = frame.getAllLayers();
-        Collections.reverse(layers);
+        mouseState.setPressed(event.button, event.action != GLFW_RELEASE);
+        if (!mouseState.isAnyPressed()) {
+            ctx.releasePointerCapture();
+        }
+        Vector2f cursorPos = new Vector2f(mouseState.getCursorPosition());
+        mouseState.setPressPosition(event.button, cursorPos.x, cursorPos.y);
 
         Component focusedGui = ctx.getFocusedGui();
         Component target = null;
-        for (Layer layer : layers) {
+        for (int i = frame.getLayerCount() - 1; i >= 0; i--) {
+            Layer layer = frame.getLayer(i);
             if (layer.isEventReceivable()) {
                 if (!layer.isVisible() || !layer.isEnabled()) {
                     continue;
@@ -56,7 +58,7 @@ public class MouseClickEventHandler implements SystemEventHandler<SystemMouseCli
         if (target == null) {
             if (event.action == GLFW_RELEASE) {
                 if (focusedGui != null) {
-                    updateReleasePosAndFocusedGui(btn, cursorPos, focusedGui);
+                    updateReleasePosAndFocusedGui(mouseState, event.button, cursorPos, focusedGui);
                     EventProcessorProvider.getInstance()
                         .pushEvent(new MouseClickEvent<>(focusedGui, ctx, frame, RELEASE, btn, buttonCursorPosition(cursorPos, focusedGui), cursorPos, mods));
                 }
@@ -65,9 +67,13 @@ public class MouseClickEventHandler implements SystemEventHandler<SystemMouseCli
             }
         } else {
             if (event.action == GLFW.GLFW_PRESS) {
-                btn.setPressPosition(cursorPos);
+                mouseState.setPressPosition(event.button, cursorPos.x, cursorPos.y);
                 removeFocus(target, frame, ctx);
                 target.setPressed(true);
+                if (target.isEmpty()) {
+                    // drag events go to the pressed component until all buttons are released, even if focus moves meanwhile
+                    ctx.setPointerCapture(target);
+                }
 
                 if (focusedGui != target) {
                     target.setFocused(true);
@@ -81,7 +87,7 @@ public class MouseClickEventHandler implements SystemEventHandler<SystemMouseCli
                     EventProcessorProvider.getInstance().pushEvent(new FocusEvent<>(target, ctx, frame, target, true));
                 }
             } else {
-                updateReleasePosAndFocusedGui(btn, cursorPos, focusedGui);
+                updateReleasePosAndFocusedGui(mouseState, event.button, cursorPos, focusedGui);
 
                 if (focusedGui != null) {
                     if (focusedGui == target) {
@@ -97,22 +103,21 @@ public class MouseClickEventHandler implements SystemEventHandler<SystemMouseCli
     }
 
     private Vector2f buttonCursorPosition(Vector2f cursorPos, Component target) {
-        return target.getAbsolutePosition().sub(cursorPos).negate();
+        return new Vector2f(cursorPos).sub(target.getAbsolutePositionView());
     }
 
-    private void updateReleasePosAndFocusedGui(Mouse.MouseButton button, Vector2f cursorPosition, Component focusedGui) {
-        button.setReleasePosition(cursorPosition);
+    private void updateReleasePosAndFocusedGui(MouseState mouseState, int button, Vector2f cursorPosition, Component focusedGui) {
+        mouseState.setReleasePosition(button, cursorPosition.x, cursorPosition.y);
         if (focusedGui != null) {
             focusedGui.setPressed(false);
         }
     }
 
     private void removeFocus(Component targetComponent, Frame frame, Context context) {
-        List<Layer> allLayers = frame.getAllLayers();
-        for (Layer layer : allLayers) {
-            List<Component> childComponents = layer.getChildComponents();
-            for (Component child : childComponents) {
-                removeFocus(targetComponent, child, context, frame);
+        for (int i = 0; i < frame.getLayerCount(); i++) {
+            Layer layer = frame.getLayer(i);
+            for (int j = 0; j < layer.count(); j++) {
+                removeFocus(targetComponent, layer.getChild(j), context, frame);
             }
         }
     }
@@ -123,9 +128,8 @@ public class MouseClickEventHandler implements SystemEventHandler<SystemMouseCli
             component.setPressed(false);
             EventProcessorProvider.getInstance().pushEvent(new FocusEvent<>(component, context, frame, focused, false));
         }
-        List<? extends Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            removeFocus(focused, child, context, frame);
+        for (int i = 0; i < component.count(); i++) {
+            removeFocus(focused, component.getChild(i), context, frame);
         }
     }
 
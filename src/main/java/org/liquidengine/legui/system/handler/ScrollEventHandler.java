@@ -4,23 +4,23 @@ import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.component.Layer;
 import org.liquidengine.legui.event.ScrollEvent;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemScrollEvent;
 
-import java.util.List;
-
 /**
  * Created by ShchAlexander on 03.02.2017.
  */
 public class ScrollEventHandler extends AbstractSystemEventHandler<SystemScrollEvent> {
 
+    /**
+     * Pushes single {@link ScrollEvent} to the top component under cursor. The event then propagates through parent components of the target.
+     */
     @Override
     protected boolean handle(SystemScrollEvent event, Layer layer, Context context, Frame frame) {
-        List<Component> targetComponentList = SehUtil.getTargetComponentList(layer, Mouse.getCursorPosition());
-        for (Component component : targetComponentList) {
-            EventProcessorProvider.getInstance().pushEvent(new ScrollEvent<>(component, context, frame, event.xoffset, event.yoffset));
+        Component target = SehUtil.getTopComponent(layer, context.getMouseState().getCursorPosition());
+        if (target != null) {
+            EventProcessorProvider.getInstance().pushEvent(new ScrollEvent<>(target, context, frame, event.xoffset, event.yoffset));
         }
         return false;
     }
@@ -1,7 +1,8 @@
 package org.liquidengine.legui.system.handler;
 
-import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.component.Layer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,17 +16,21 @@ public final class SehUtil {
     }
 
     /**
-     * Used to find target component for provided component and vector. Target means top component which intersected by provided point(vector).
+     * Used to find target component for provided component and vector. Target means top component which intersected by provided point(vector). Layers are
+     * searched using their {@link Layer#getSpatialIndex() spatial index}.
      *
      * @param component component to search.
      * @param vector    point to search.
      * @return top component from component intersected by vector.
      */
-    public static Component getTargetComponent(Component component, Vector2f vector) {
+    public static Component getTargetComponent(Component component, Vector2fc vector) {
         Component target = component.isFocusable() ? component : null;
-        List<Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            target = recursiveTargetComponentSearch(vector, child, target);
+        if (component instanceof Layer) {
+            Component indexed = ((Layer) component).getSpatialIndex().getTargetComponent(vector);
+            return indexed != null ? indexed : target;
+        }
+        for (int i = 0; i < component.count(); i++) {
+            target = recursiveTargetComponentSearch(vector, component.getChild(i), target);
         }
         return target;
     }
@@ -38,30 +43,78 @@ public final class SehUtil {
      * @param target    current target.
      * @return the top visible component under point.
      */
-    private static Component recursiveTargetComponentSearch(Vector2f vector, Component component, Component target) {
+    private static Component recursiveTargetComponentSearch(Vector2fc vector, Component component, Component target) {
         Component newtarget = target;
         if (component.isVisible() && component.intersects(vector)) {
             if (component.isFocusable()) {
                 newtarget = component;
             }
-            List<Component> childComponents = component.getChildComponents();
-            for (Component child : childComponents) {
-                newtarget = recursiveTargetComponentSearch(vector, child, newtarget);
+            for (int i = 0; i < component.count(); i++) {
+                newtarget = recursiveTargetComponentSearch(vector, component.getChild(i), newtarget);
             }
         }
         return newtarget;
     }
 
+    /**
+     * Used to find top component under point. Unlike {@link #getTargetComponent(Component, Vector2fc)} doesn't skip components which are not focusable, and
+     * returns null if provided component itself is not visible or not intersected by point. Layers are searched using their
+     * {@link Layer#getSpatialIndex() spatial index}.
+     *
+     * @param component component to search.
+     * @param vector    point to search.
+     * @return top visible component under point or null.
+     */
+    public static Component getTopComponent(Component component, Vector2fc vector) {
+        if (!component.isVisible() || !component.intersects(vector)) {
+            return null;
+        }
+        if (component instanceof Layer) {
+            Component top = ((Layer) component).getSpatialIndex().getTopComponent(vector);
+            return top != null ? top : component;
+        }
+        Component top = component;
+        for (int i = 0; i < component.count(); i++) {
+            top = recursiveTopComponentSearch(vector, component.getChild(i), top);
+        }
+        return top;
+    }
+
+    /**
+     * Used to search top component (under point) in component.
+     *
+     * @param vector    vector to point.
+     * @param component source component to search top component.
+     * @param top       current top component.
+     * @return the top visible component under point.
+     */
+    private static Component recursiveTopComponentSearch(Vector2fc vector, Component component, Component top) {
+        Component newTop = top;
+        if (component.isVisible() && component.intersects(vector)) {
+            newTop = component;
+            for (int i = 0; i < component.count(); i++) {
+                newTop = recursiveTopComponentSearch(vector, component.getChild(i), newTop);
+            }
+        }
+        return newTop;
+    }
 
     /**
-     * Used to search all components (under point) in component.
+     * Used to search all components (under point) in component. Layers are searched using their {@link Layer#getSpatialIndex() spatial index}.
      *
      * @param vector    vector to point.
      * @param component component to search in.
      * @return all top visible components in component under point(vector).
      */
-    public static List<Component> getTargetComponentList(Component component, Vector2f vector) {
+    public static List<Component> getTargetComponentList(Component component, Vector2fc vector) {
         List<Component> targetList = new ArrayList<>();
+        if (component instanceof Layer) {
+            if (component.isVisible() && component.intersects(vector)) {
+                targetList.add(component);
+                ((Layer) component).getSpatialIndex().getTargetComponents(vector, targetList);
+            }
+            return targetList;
+        }
         recursiveTargetComponentListSearch(vector, component, targetList);
         return targetList;
     }
@@ -74,13 +127,42 @@ public final class SehUtil {
      * @param component  source component to search target.
      * @param targetList current target list.
      */
-    public static void recursiveTargetComponentListSearch(Vector2f vector, Component component, List<Component> targetList) {
+    public static void recursiveTargetComponentListSearch(Vector2fc vector, Component component, List<Component> targetList) {
         if (component.isVisible() /*&& component.isEnabled()*/ && component.intersects(vector)) {
             targetList.add(component);
-            List<Component> childComponents = component.getChildComponents();
-            for (Component child : childComponents) {
-                recursiveTargetComponentListSearch(vector, child, targetList);
+            for (int i = 0; i < component.count(); i++) {
+                recursiveTargetComponentListSearch(vector, component.getChild(i), targetList);
+            }
+        }
+    }
+
+    /**
+     * Returns true if component and all of its parent components are visible.
+     *
+     * @param component component to check.
+     * @return true if component and all of its parent components are visible.
+     */
+    public static boolean isVisibleWithParents(Component component) {
+        for (Component c = component; c != null; c = c.getParent()) {
+            if (!c.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if component and all of its parent components are visible and enabled.
+     *
+     * @param component component to check.
+     * @return true if component and all of its parent components are visible and enabled.
+     */
+    public static boolean isVisibleAndEnabledWithParents(Component component) {
+        for (Component c = component; c != null; c = c.getParent()) {
+            if (!c.isVisible() || !c.isEnabled()) {
+                return false;
             }
         }
+        return true;
     }
 }
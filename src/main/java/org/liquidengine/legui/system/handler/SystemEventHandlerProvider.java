@@ -11,6 +11,10 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SystemEventHandlerProvider {
 
     private Map<Class<? extends SystemEvent>, SystemEventHandler<? extends SystemEvent>> processorMap = new ConcurrentHashMap<>();
+    /**
+     * Handlers of default system events indexed by {@link SystemEventType} ordinal.
+     */
+    private final SystemEventHandler<? extends SystemEvent>[] processorsByType = new SystemEventHandler[SystemEventType.count()];
 
     private SystemEventHandlerProvider() {
         registerProcessor(SystemWindowCloseEvent.class, new WindowCloseEventHandler());
@@ -34,12 +38,26 @@ public class SystemEventHandlerProvider {
 
     public <E extends SystemEvent> void registerProcessor(Class<E> eventClass, SystemEventHandler<E> processor) {
         processorMap.put(eventClass, processor);
+        SystemEventType type = SystemEventType.of(eventClass);
+        if (type != null) {
+            processorsByType[type.ordinal()] = processor;
+        }
     }
 
     public <E extends SystemEvent> SystemEventHandler<E> getProcessor(Class<E> eventClass) {
         return (SystemEventHandler<E>) processorMap.get(eventClass);
     }
 
+    /**
+     * Returns handler of default system event by type ordinal, without map lookup.
+     *
+     * @param typeOrdinal ordinal of {@link SystemEventType}.
+     * @return system event handler or null.
+     */
+    public SystemEventHandler<? extends SystemEvent> getProcessor(int typeOrdinal) {
+        return processorsByType[typeOrdinal];
+    }
+
     private static class LSEPPH {
 
         private static final SystemEventHandlerProvider I = new SystemEventHandlerProvider();
@@ -8,8 +8,6 @@ import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemWindowFocusEvent;
 
-import java.util.List;
-
 /**
  * Created by ShchAlexander on 03.02.2017.
  */
@@ -17,21 +15,11 @@ public class WindowFocusEventHandler extends AbstractSystemEventHandler<SystemWi
 
     @Override
     protected boolean handle(SystemWindowFocusEvent event, Layer layer, Context context, Frame frame) {
-        pushEvent(layer, event, context, frame);
-        return false;
-    }
-
-
-    private void pushEvent(Component component, SystemWindowFocusEvent event, Context context, Frame frame) {
-        if (!(component.isVisible())) {
-            return;
+        for (Component component : frame.getSubscriberIndex().getSubscribers(layer, WindowFocusEvent.class)) {
+            if (SehUtil.isVisibleWithParents(component)) {
+                EventProcessorProvider.getInstance().pushEvent(new WindowFocusEvent(component, context, frame, event.focused));
+            }
         }
-        EventProcessorProvider.getInstance().pushEvent(new WindowFocusEvent(component, context, frame, event.focused));
-
-        List<Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            pushEvent(child, event, context, frame);
-        }
-
+        return false;
     }
 }
@@ -8,8 +8,6 @@ import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemWindowIconifyEvent;
 
-import java.util.List;
-
 /**
  * Created by ShchAlexander on 03.02.2017.
  */
@@ -17,19 +15,11 @@ public class WindowIconifyEventHandler extends AbstractSystemEventHandler<System
 
     @Override
     protected boolean handle(SystemWindowIconifyEvent event, Layer layer, Context context, Frame frame) {
-        pushEvent(layer, event, context, frame);
-        return false;
-    }
-
-
-    private void pushEvent(Component component, SystemWindowIconifyEvent event, Context context, Frame frame) {
-        if (!(component.isVisible())) {
-            return;
-        }
-        EventProcessorProvider.getInstance().pushEvent(new WindowIconifyEvent(component, context, frame, event.iconified));
-        List<Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            pushEvent(child, event, context, frame);
+        for (Component component : frame.getSubscriberIndex().getSubscribers(layer, WindowIconifyEvent.class)) {
+            if (SehUtil.isVisibleWithParents(component)) {
+                EventProcessorProvider.getInstance().pushEvent(new WindowIconifyEvent(component, context, frame, event.iconified));
+            }
         }
+        return false;
     }
 }
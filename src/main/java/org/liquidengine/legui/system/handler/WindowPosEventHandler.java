@@ -8,8 +8,6 @@ import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemWindowPosEvent;
 
-import java.util.List;
-
 /**
  * This class instance used to handle {@link WindowPosEvent}.
  */
@@ -26,26 +24,11 @@ public class WindowPosEventHandler extends AbstractSystemEventHandler<SystemWind
      */
     @Override
     protected boolean handle(SystemWindowPosEvent event, Layer layer, Context context, Frame frame) {
-        pushEvent(layer, event, context, frame);
-        return false;
-    }
-
-    /**
-     * Used to push {@link WindowPosEvent} instance of {@link org.liquidengine.legui.event.Event}
-     * to {@link org.liquidengine.legui.listener.processor.EventProcessor}.
-     *
-     * @param component component for which should be created {@link WindowPosEvent}
-     * @param event event to push.
-     * @param context context.
-     */
-    private void pushEvent(Component component, SystemWindowPosEvent event, Context context, Frame frame) {
-        if (!(component.isVisible())) {
-            return;
-        }
-        EventProcessorProvider.getInstance().pushEvent(new WindowPosEvent(component, context, frame, event.xpos, event.ypos));
-        List<Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            pushEvent(child, event, context, frame);
+        for (Component component : frame.getSubscriberIndex().getSubscribers(layer, WindowPosEvent.class)) {
+            if (SehUtil.isVisibleWithParents(component)) {
+                EventProcessorProvider.getInstance().pushEvent(new WindowPosEvent(component, context, frame, event.xpos, event.ypos));
+            }
         }
+        return false;
     }
 }
@@ -8,9 +8,6 @@ import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemWindowSizeEvent;
 
-import java.util.Collections;
-import java.util.List;
-
 /**
  * Created by ShchAlexander on 2/2/2017.
  */
@@ -18,24 +15,16 @@ public class WindowSizeEventHandler implements SystemEventHandler<SystemWindowSi
 
     @Override
     public void handle(SystemWindowSizeEvent event, Frame frame, Context context) {
-        List<Layer> layers = frame.getAllLayers();
-        Collections.reverse(layers);
-        for (Layer layer : layers) {
+        for (int i = frame.getLayerCount() - 1; i >= 0; i--) {
+            Layer layer = frame.getLayer(i);
             if (!layer.isVisible() || !layer.isEnabled()) {
                 continue;
             }
-            pushEvent(layer, event, context, frame);
-        }
-    }
-
-    private void pushEvent(Component component, SystemWindowSizeEvent event, Context context, Frame frame) {
-        if (!component.isVisible() || !component.isEnabled()) {
-            return;
-        }
-        EventProcessorProvider.getInstance().pushEvent(new WindowSizeEvent(component, context, frame, event.width, event.height));
-        List<Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            pushEvent(child, event, context, frame);
+            for (Component component : frame.getSubscriberIndex().getSubscribers(layer, WindowSizeEvent.class)) {
+                if (SehUtil.isVisibleAndEnabledWithParents(component)) {
+                    EventProcessorProvider.getInstance().pushEvent(new WindowSizeEvent(component, context, frame, event.width, event.height));
+                }
+            }
         }
     }
 }
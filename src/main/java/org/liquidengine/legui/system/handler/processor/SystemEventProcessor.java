@@ -32,6 +32,63 @@ public interface SystemEventProcessor {
      */
     boolean hasEvents();
 
+    /**
+     * Used to push cursor position event. Implementations may store it without allocating an event instance.
+     *
+     * @param window window.
+     * @param xpos   cursor x position.
+     * @param ypos   cursor y position.
+     */
+    default void pushCursorPosEvent(long window, double xpos, double ypos) {
+        pushEvent(new SystemCursorPosEvent(window, xpos, ypos));
+    }
+
+    /**
+     * Used to push scroll event. Implementations may store it without allocating an event instance.
+     *
+     * @param window  window.
+     * @param xoffset x offset.
+     * @param yoffset y offset.
+     */
+    default void pushScrollEvent(long window, double xoffset, double yoffset) {
+        pushEvent(new SystemScrollEvent(window, xoffset, yoffset));
+    }
+
+    /**
+     * Used to push mouse button event. Implementations may store it without allocating an event instance.
+     *
+     * @param window window.
+     * @param button mouse button.
+     * @param action action.
+     * @param mods   modifiers.
+     */
+    default void pushMouseClickEvent(long window, int button, int action, int mods) {
+        pushEvent(new SystemMouseClickEvent(window, button, action, mods));
+    }
+
+    /**
+     * Used to push key event. Implementations may store it without allocating an event instance.
+     *
+     * @param window   window.
+     * @param key      key.
+     * @param scancode scancode.
+     * @param action   action.
+     * @param mods     modifiers.
+     */
+    default void pushKeyEvent(long window, int key, int scancode, int action, int mods) {
+        pushEvent(new SystemKeyEvent(window, key, scancode, action, mods));
+    }
+
+    /**
+     * Used to push char event. Implementations may store it without allocating an event instance.
+     *
+     * @param window    window.
+     * @param codepoint codepoint.
+     */
+    default void pushCharEvent(long window, int codepoint) {
+        pushEvent(new SystemCharEvent(window, codepoint));
+    }
+
     /**
      * Add default callbacks to callback keeper.
      *
@@ -117,7 +174,7 @@ public interface SystemEventProcessor {
      * @return the GLFWCursorPosCallback.
      */
     static GLFWCursorPosCallbackI createDefaultGlfwCursorPosCallbackI(SystemEventProcessor processor) {
-        return (window, xpos, ypos) -> processor.pushEvent(new SystemCursorPosEvent(window, xpos, ypos));
+        return (window, xpos, ypos) -> processor.pushCursorPosEvent(window, xpos, ypos);
     }
 
     /**
@@ -126,7 +183,7 @@ public interface SystemEventProcessor {
      * @return the GLFWMouseButtonCallback.
      */
     static GLFWMouseButtonCallbackI createDefaultGlfwMouseButtonCallbackI(SystemEventProcessor processor) {
-        return (window, button, action, mods) -> processor.pushEvent(new SystemMouseClickEvent(window, button, action, mods));
+        return (window, button, action, mods) -> processor.pushMouseClickEvent(window, button, action, mods);
     }
 
     /**
@@ -162,7 +219,7 @@ public interface SystemEventProcessor {
      * @return the GLFWScrollCallback.
      */
     static GLFWScrollCallbackI createDefaultGlfwScrollCallbackI(SystemEventProcessor processor) {
-        return (window, xoffset, yoffset) -> processor.pushEvent(new SystemScrollEvent(window, xoffset, yoffset));
+        return (window, xoffset, yoffset) -> processor.pushScrollEvent(window, xoffset, yoffset);
     }
 
     /**
@@ -171,7 +228,7 @@ public interface SystemEventProcessor {
      * @return the GLFWKeyCallback.
      */
     static GLFWKeyCallbackI createDefaultGlfwKeyCallbackI(SystemEventProcessor processor) {
-        return (window, key, scancode, action, mods) -> processor.pushEvent(new SystemKeyEvent(window, key, scancode, action, mods));
+        return (window, key, scancode, action, mods) -> processor.pushKeyEvent(window, key, scancode, action, mods);
     }
 
     /**
@@ -189,6 +246,6 @@ public interface SystemEventProcessor {
      * @return the GLFWCharCallback.
      */
     static GLFWCharCallbackI createDefaultGlfwCharCallbackI(SystemEventProcessor processor) {
-        return (window, codepoint) -> processor.pushEvent(new SystemCharEvent(window, codepoint));
+        return (window, codepoint) -> processor.pushCharEvent(window, codepoint);
     }
 }
@@ -1,10 +1,9 @@
 package org.liquidengine.legui.system.handler.processor;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import org.liquidengine.legui.component.Frame;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.event.SystemEvent;
+import org.liquidengine.legui.system.event.SystemEventQueue;
 import org.liquidengine.legui.system.handler.SystemEventHandler;
 import org.liquidengine.legui.system.handler.SystemEventHandlerProvider;
 
@@ -13,8 +12,20 @@ import org.liquidengine.legui.system.handler.SystemEventHandlerProvider;
  */
 public class SystemEventProcessorImpl implements SystemEventProcessor {
 
-    private Queue<SystemEvent> first = new ConcurrentLinkedQueue<>();
-    private Queue<SystemEvent> second = new ConcurrentLinkedQueue<>();
+    private final SystemEventQueue queue;
+
+    public SystemEventProcessorImpl() {
+        this(SystemEventQueue.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates system event processor with specified event queue capacity.
+     *
+     * @param capacity capacity of the event ring buffer.
+     */
+    public SystemEventProcessorImpl(int capacity) {
+        this.queue = new SystemEventQueue(capacity);
+    }
 
     /**
      * Process events.
@@ -23,29 +34,77 @@ public class SystemEventProcessorImpl implements SystemEventProcessor {
      * @param context the context
      */
     public void processEvents(Frame frame, Context context) {
-        swap();
+        SystemEventHandlerProvider provider = SystemEventHandlerProvider.getInstance();
 
-        for (SystemEvent event = second.poll(); event != null; event = second.poll()) {
-            SystemEventHandler processor = SystemEventHandlerProvider.getInstance().getProcessor(event.getClass());
+        // Events pushed while processing are left for the next call
+        for (int pending = queue.size(); pending > 0; pending -= queue.getPolledCount()) {
+            SystemEvent event = queue.poll();
+            if (event == null) {
+                break;
+            }
+            int type = queue.getPolledType();
+            SystemEventHandler processor = type >= 0 ? provider.getProcessor(type) : provider.getProcessor(event.getClass());
             if (processor != null) {
                 processor.handle(event, frame, context);
             }
         }
     }
 
-    private void swap() {
-        Queue<SystemEvent> temp = first;
-        first = second;
-        second = temp;
-    }
-
     /**
      * Push event.
      *
      * @param event the event
      */
     public void pushEvent(SystemEvent event) {
-        first.add(event);
+        queue.push(event);
+    }
+
+    @Override
+    public void pushCursorPosEvent(long window, double xpos, double ypos) {
+        queue.pushCursorPos(window, xpos, ypos);
+    }
+
+    @Override
+    public void pushScrollEvent(long window, double xoffset, double yoffset) {
+        queue.pushScroll(window, xoffset, yoffset);
+    }
+
+    @Override
+    public void pushMouseClickEvent(long window, int button, int action, int mods) {
+        queue.pushMouseClick(window, button, action, mods);
+    }
+
+    @Override
+    public void pushKeyEvent(long window, int key, int scancode, int action, int mods) {
+        queue.pushKey(window, key, scancode, action, mods);
+    }
+
+    @Override
+    public void pushCharEvent(long window, int codepoint) {
+        queue.pushChar(window, codepoint);
+    }
+
+    /**
+     * Used to enable merging of consecutive cursor position and scroll events before they are handled. Hover and drag only depend on the last cursor
+     * position, so this saves a hit-test per skipped event. Disabled by default.
+     *
+     * @param coalescing true to enable coalescing.
+     */
+    public void setCoalescing(boolean coalescing) {
+        queue.setCoalescing(coalescing);
+    }
+
+    public boolean isCoalescing() {
+        return queue.isCoalescing();
+    }
+
+    /**
+     * Returns total number of cursor position and scroll events which were merged into other events.
+     *
+     * @return number of coalesced events.
+     */
+    public long getCoalescedEvents() {
+        return queue.getCoalescedCount();
     }
 
     /**
@@ -55,6 +114,6 @@ public class SystemEventProcessorImpl implements SystemEventProcessor {
      */
     @Override
     public boolean hasEvents() {
-        return !(first.isEmpty() && second.isEmpty());
+        return !queue.isEmpty();
     }
 }
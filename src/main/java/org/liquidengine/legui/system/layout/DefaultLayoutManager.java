@@ -2,13 +2,11 @@ package org.liquidengine.legui.system.layout;
 
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Frame;
-import org.liquidengine.legui.component.Layer;
 import org.liquidengine.legui.style.Style.DisplayType;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.layout.flex.FlexLayout;
 import org.liquidengine.legui.util.Utilites;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -33,8 +31,8 @@ public class DefaultLayoutManager extends LayoutManager {
      */
     @Override
     public void layout(Frame frame, Context context) {
-        for (Layer layer : frame.getAllLayers()) {
-            layout(layer, frame, context);
+        for (int i = 0; i < frame.getLayerCount(); i++) {
+            layout(frame.getLayer(i), frame, context);
         }
     }
 
@@ -64,11 +62,8 @@ public class DefaultLayoutManager extends LayoutManager {
                 layout.layout(component, frame, context);
             }
 
-            if (!component.isEmpty()) {
-                List<Component> childComponents = component.getChildComponents();
-                for (Component child : childComponents) {
-                    layout(child, frame, context);
-                }
+            for (int i = 0; i < component.count(); i++) {
+                layout(component.getChild(i), frame, context);
             }
         }
     }
@@ -72,11 +72,11 @@ public class FlexLayout implements Layout {
             Long yogaNode = childNodes.get(i);
 
             Vector2f newPos = new Vector2f(Yoga.YGNodeLayoutGetLeft(yogaNode), Yoga.YGNodeLayoutGetTop(yogaNode));
-            Vector2f oldPos = childComponent.getPosition();
+            Vector2f oldPos = new Vector2f(childComponent.getPosition());
             childComponent.setPosition(newPos);
 
             Vector2f newSize = new Vector2f(Yoga.YGNodeLayoutGetWidth(yogaNode), Yoga.YGNodeLayoutGetHeight(yogaNode));
-            Vector2f oldSize = childComponent.getSize();
+            Vector2f oldSize = new Vector2f(childComponent.getSize());
             childComponent.setSize(newSize);
 
             if (frame != null && context != null) {
@@ -15,7 +15,8 @@ public abstract class AbstractRenderer implements Renderer {
 
     public void render(Frame display, Context context) {
         preRender(context);
-        for (Layer layer : display.getAllLayers()) {
+        for (int i = 0; i < display.getLayerCount(); i++) {
+            Layer layer = display.getLayer(i);
             RendererProvider.getInstance().getComponentRenderer(layer.getClass()).render(layer, context);
         }
         postRender(context);
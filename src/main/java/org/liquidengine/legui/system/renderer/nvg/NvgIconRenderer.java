@@ -50,7 +50,7 @@ public abstract class NvgIconRenderer<I extends Icon> extends IconRenderer<I> {
     protected Vector2f calculateIconPosition(I icon, Component component, Vector2f iconSize) {
         Vector2f size = component.getSize();
 
-        Vector2f p = new Vector2f(component.getAbsolutePosition());
+        Vector2f p = new Vector2f(component.getAbsolutePositionView());
         if (icon.getPosition() == null) {
             p.x += icon.getHorizontalAlign().index * (size.x - iconSize.x) / 2f;
             p.y += icon.getVerticalAlign().index * (size.y - iconSize.y) / 2f;
@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.border;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.style.border.Border;
@@ -20,11 +21,11 @@ public class NvgDefaultBorderRenderer extends NvgBorderRenderer {
             return;
         }
         // render simple rectangle border
-        Vector2f position = component.getAbsolutePosition();
+        Vector2fc position = component.getAbsolutePositionView();
         Vector2f size = component.getSize();
 
-        float x = position.x;
-        float y = position.y;
+        float x = position.x();
+        float y = position.y();
         float w = size.x;
         float h = size.y;
 
@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.border;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.style.Style;
@@ -27,7 +28,7 @@ public class NvgSimpleLineBorderRenderer extends NvgBorderRenderer<SimpleLineBor
 //            float cornerRadius = component.getBorderRadius();
             Vector2f size = component.getSize();
             Style style = component.getStyle();
-            Vector2f absolutePosition = component.getAbsolutePosition();
+            Vector2fc absolutePosition = component.getAbsolutePositionView();
 
             Vector2f bSize = new Vector2f(size);
             bSize.add(thickness, thickness);
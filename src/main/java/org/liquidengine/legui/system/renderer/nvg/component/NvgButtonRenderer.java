@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.component;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Button;
 import org.liquidengine.legui.component.event.button.ButtonWidthChangeEvent;
@@ -28,7 +29,7 @@ public class NvgButtonRenderer extends NvgDefaultComponentRenderer<Button> {
     protected void renderSelf(Button component, Context context, long nanovg) {
         createScissor(nanovg, component);
         {
-            Vector2f pos = component.getAbsolutePosition();
+            Vector2fc pos = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
 
             // Render text
@@ -45,11 +46,11 @@ public class NvgButtonRenderer extends NvgDefaultComponentRenderer<Button> {
                 EventProcessorProvider.getInstance().pushEvent(new ButtonWidthChangeEvent(component, context, component.getFrame(), textBounds[2]));
             }
 
-            pos = component.getAbsolutePosition();
+            pos = component.getAbsolutePositionView();
             size = component.getSize();
 
             // Render text
-            nvgIntersectScissor(nanovg, pos.x, pos.y, size.x, size.y);
+            nvgIntersectScissor(nanovg, pos.x(), pos.y(), size.x, size.y);
             textState = component.getTextState();
             rect = new Vector4f(pos, size.x(), size.y());
             horizontalAlign = getStyle(component, Style::getHorizontalAlign, HorizontalAlign.LEFT);
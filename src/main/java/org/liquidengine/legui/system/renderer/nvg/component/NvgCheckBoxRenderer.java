@@ -29,7 +29,7 @@ public class NvgCheckBoxRenderer extends NvgDefaultComponentRenderer<CheckBox> {
         createScissor(nanovg, checkBox);
         {
             Style style = checkBox.getStyle();
-            Vector2f pos = checkBox.getAbsolutePosition();
+            Vector2fc pos = checkBox.getAbsolutePositionView();
             Vector2f size = checkBox.getSize();
 
             /*Draw background rectangle*/
@@ -44,8 +44,8 @@ public class NvgCheckBoxRenderer extends NvgDefaultComponentRenderer<CheckBox> {
             float iconWidthForUse = (icon.getHorizontalAlign().index == 0 ? 1 : 0) * iconWid;
 
             float h = size.y - (padding.y + padding.w);
-            float y = pos.y + padding.y;
-            float x = pos.x + iconWidthForUse + padding.x;
+            float y = pos.y() + padding.y;
+            float x = pos.x() + iconWidthForUse + padding.x;
             float w = size.x - iconWidthForUse - padding.z - padding.x;
 
             Vector2fc size1 = new Vector2f(w, h);
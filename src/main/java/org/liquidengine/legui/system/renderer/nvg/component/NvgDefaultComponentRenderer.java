@@ -64,7 +64,7 @@ public class NvgDefaultComponentRenderer<C extends Component> extends NvgCompone
         NvgRenderUtils.renderShadow(nanovg, component);
 
         nvgSave(nanovg);
-        NvgShapes.drawRect(nanovg, component.getAbsolutePosition(), component.getSize(), bgColor, cornerRadius);
+        NvgShapes.drawRect(nanovg, component.getAbsolutePositionView(), component.getSize(), bgColor, cornerRadius);
         if (bgIcon != null) {
             renderIcon(bgIcon, component, context);
         }
@@ -79,7 +79,8 @@ public class NvgDefaultComponentRenderer<C extends Component> extends NvgCompone
      * @param nanovg nanovg context pointer.
      */
     protected void renderChildComponents(C component, Context context, long nanovg) {
-        for (Component child : component.getChildComponents()) {
+        for (int i = 0; i < component.count(); i++) {
+            Component child = component.getChild(i);
             RendererProvider.getInstance().getComponentRenderer(child.getClass()).render(child, context);
         }
     }
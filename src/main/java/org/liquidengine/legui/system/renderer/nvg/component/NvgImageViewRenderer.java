@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.component;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.liquidengine.legui.component.ImageView;
 import org.liquidengine.legui.system.context.Context;
 import org.liquidengine.legui.system.renderer.nvg.util.NvgRenderUtils;
@@ -20,7 +21,7 @@ public class NvgImageViewRenderer extends NvgDefaultComponentRenderer<ImageView>
     @Override
     protected void renderSelf(ImageView imageView, Context context, long nanovg) {
         Vector2f size = imageView.getSize();
-        Vector2f position = imageView.getAbsolutePosition();
+        Vector2fc position = imageView.getAbsolutePositionView();
 
         createScissor(nanovg, imageView);
         {
@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.component;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Label;
 import org.liquidengine.legui.component.event.label.LabelWidthChangeEvent;
@@ -30,7 +31,7 @@ public class NvgLabelRenderer extends NvgDefaultComponentRenderer<Label> {
         createScissor(nanovg, label);
         {
             Style style = label.getStyle();
-            Vector2f pos = label.getAbsolutePosition();
+            Vector2fc pos = label.getAbsolutePositionView();
             Vector2f size = label.getSize();
 
             TextState textState = label.getTextState();
@@ -52,7 +53,7 @@ public class NvgLabelRenderer extends NvgDefaultComponentRenderer<Label> {
 
             // The variables are recovered again because they could have been modified by an event.
             style = label.getStyle();
-            pos = label.getAbsolutePosition();
+            pos = label.getAbsolutePositionView();
             size = label.getSize();
 
             textState = label.getTextState();
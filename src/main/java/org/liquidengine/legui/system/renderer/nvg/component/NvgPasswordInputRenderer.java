@@ -23,12 +23,12 @@ import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.PasswordInput;
 import org.liquidengine.legui.component.optional.TextState;
 import org.liquidengine.legui.component.optional.align.HorizontalAlign;
 import org.liquidengine.legui.component.optional.align.VerticalAlign;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.style.Style;
 import org.liquidengine.legui.style.font.FontRegistry;
 import org.liquidengine.legui.system.context.Context;
@@ -55,7 +55,7 @@ public class NvgPasswordInputRenderer extends NvgDefaultComponentRenderer<Passwo
     public void renderSelf(PasswordInput component, Context leguiContext, long nanovg) {
         createScissor(nanovg, component);
         {
-            Vector2f pos = component.getAbsolutePosition();
+            Vector2fc pos = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
             boolean enabled = component.isEnabled();
             Vector4f bc = new Vector4f(component.getStyle().getBackground().getColor());
@@ -173,7 +173,7 @@ public class NvgPasswordInputRenderer extends NvgDefaultComponentRenderer<Passwo
                     if (maskedLength == 0) {
                         mouseCaretX = caretx;
                     } else {
-                        float mx = Mouse.getCursorPosition().x + poffset;
+                        float mx = leguiContext.getMouseState().getCursorX() + poffset;
                         if (mx <= glyphs.get(0).x()) {
                             mouseCaretPosition = 0;
                             mouseCaretX = glyphs.get(0).x();
@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.component;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.ProgressBar;
 import org.liquidengine.legui.system.context.Context;
@@ -19,7 +20,7 @@ public class NvgProgressBarRenderer extends NvgDefaultComponentRenderer<Progress
         createScissor(nanovg, progressBar);
         {
             nvgSave(nanovg);
-            Vector2f pos = progressBar.getAbsolutePosition();
+            Vector2fc pos = progressBar.getAbsolutePositionView();
             Vector4f cornerRadius = getBorderRadius(progressBar);
             Vector2f size = progressBar.getSize();
 
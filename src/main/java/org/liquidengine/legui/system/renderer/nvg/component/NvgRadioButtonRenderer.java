@@ -7,6 +7,7 @@ import static org.liquidengine.legui.system.renderer.nvg.util.NvgRenderUtils.cre
 import static org.liquidengine.legui.system.renderer.nvg.util.NvgRenderUtils.resetScissor;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.RadioButton;
 import org.liquidengine.legui.component.optional.TextState;
@@ -29,7 +30,7 @@ public class NvgRadioButtonRenderer extends NvgDefaultComponentRenderer<RadioBut
         {
             // default renderer used
             Style style = radioButton.getStyle();
-            Vector2f pos = radioButton.getAbsolutePosition();
+            Vector2fc pos = radioButton.getAbsolutePositionView();
             Vector2f size = radioButton.getSize();
 
             // Draw background rectangle
@@ -43,7 +44,7 @@ public class NvgRadioButtonRenderer extends NvgDefaultComponentRenderer<RadioBut
             // renderNvg text
             float iconWidthForUse = (icon.getHorizontalAlign().index == 0 ? 1 : 0) * icon.getSize().x;
 
-            Vector2f textRectPos = new Vector2f(pos.x + iconWidthForUse, pos.y + pad.y);
+            Vector2f textRectPos = new Vector2f(pos.x() + iconWidthForUse, pos.y() + pad.y);
             Vector2f textRectSize = new Vector2f(size.x - iconWidthForUse - pad.z, size.y - (pad.y + pad.w));
 
             Vector4f rect = new Vector4f(textRectPos, textRectSize.x(), textRectSize.y());
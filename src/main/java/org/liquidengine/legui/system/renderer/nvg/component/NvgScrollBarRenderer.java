@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.component;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.ScrollBar;
 import org.liquidengine.legui.component.optional.align.HorizontalAlign;
@@ -32,7 +33,7 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
         createScissor(nanovg, scrollBar);
         {
             nvgSave(nanovg);
-            Vector2f pos = scrollBar.getAbsolutePosition();
+            Vector2fc pos = scrollBar.getAbsolutePositionView();
             Vector2f size = scrollBar.getSize();
 
             float arrowSize = scrollBar.getArrowSize();
@@ -52,10 +53,10 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
                 Vector2f scrollBarPos = new Vector2f();
                 Vector2f scrollBarSize = new Vector2f();
                 if (vertical) {
-                    scrollBarPos.set(pos.x, pos.y + diff);
+                    scrollBarPos.set(pos.x(), pos.y() + diff);
                     scrollBarSize.set(size.x, size.y - 2 * diff);
                 } else {
-                    scrollBarPos.set(pos.x + diff, pos.y);
+                    scrollBarPos.set(pos.x() + diff, pos.y());
                     scrollBarSize.set(size.x - 2 * diff, size.y);
                 }
                 NvgShapes.drawRect(nanovg, scrollBarPos, scrollBarSize, scrollBar.getStyle().getBackground().getColor(),
@@ -78,7 +79,7 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
      * @param pos scrollbar position.
      * @param size scrollbar size.
      */
-    private void drawArrows(long nanovg, ScrollBar scrollBar, Vector2f pos, Vector2f size) {
+    private void drawArrows(long nanovg, ScrollBar scrollBar, Vector2fc pos, Vector2f size) {
         boolean arrowsEnabled = scrollBar.isArrowsEnabled();
         if (arrowsEnabled) {
             Vector4f arrowColor = scrollBar.getArrowColor();
@@ -93,12 +94,12 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
                 firstArrowIcon = T;
                 secondArrowIcon = B;
                 arrowBgSize.set(size.x, arrowSize);
-                arrow2pos.set(pos.x, pos.y + size.y - arrowSize);
+                arrow2pos.set(pos.x(), pos.y() + size.y - arrowSize);
             } else {
                 firstArrowIcon = L;
                 secondArrowIcon = R;
                 arrowBgSize.set(arrowSize, size.y);
-                arrow2pos.set(pos.x + size.x - arrowSize, pos.y);
+                arrow2pos.set(pos.x() + size.x - arrowSize, pos.y());
             }
             // first arrow bg
             NvgShapes.drawRect(nanovg, pos, arrowBgSize, arrowColor, cornerRadius);
@@ -115,7 +116,7 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
             {
                 Vector4f color = oppositeBlackOrWhite(arrowColor);
 
-                Vector4f firstArrowBounds = new Vector4f(pos.x, pos.y, arrowBgSize.x, arrowBgSize.y);
+                Vector4f firstArrowBounds = new Vector4f(pos.x(), pos.y(), arrowBgSize.x, arrowBgSize.y);
                 Vector4f secondArrowBounds = new Vector4f(arrow2pos.x, arrow2pos.y, arrowBgSize.x, arrowBgSize.y);
 
                 NvgText.drawTextLineToRect(nanovg, firstArrowBounds, false, HorizontalAlign.CENTER, VerticalAlign.MIDDLE, fontSize,
@@ -137,7 +138,7 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
      * @param offset offset.
      * @param vertical vertical.
      */
-    private void drawScrollButton(long nanovg, Vector2f pos, Vector2f size, ScrollBar scrollBar, float diff, float offset, boolean vertical) {
+    private void drawScrollButton(long nanovg, Vector2fc pos, Vector2f size, ScrollBar scrollBar, float diff, float offset, boolean vertical) {
         float scrollBarSize = (vertical ? size.y : size.x) - 2 * diff;
         float valueRange = scrollBar.getMaxValue() - scrollBar.getMinValue();
         float barSize = scrollBarSize * scrollBar.getVisibleAmount() / valueRange;
@@ -149,10 +150,10 @@ public class NvgScrollBarRenderer extends NvgDefaultComponentRenderer<ScrollBar>
         Vector2f scrollPos = new Vector2f();
         Vector2f scrollSize = new Vector2f();
         if (vertical) {
-            scrollPos.set(pos.x + offset, pos.y + offset + scrollPosAccordingToScrollBounds);
+            scrollPos.set(pos.x() + offset, pos.y() + offset + scrollPosAccordingToScrollBounds);
             scrollSize.set(size.x - 2 * offset, barSize - 2 * offset);
         } else {
-            scrollPos.set(pos.x + offset + scrollPosAccordingToScrollBounds, pos.y + offset);
+            scrollPos.set(pos.x() + offset + scrollPosAccordingToScrollBounds, pos.y() + offset);
             scrollSize.set(barSize - 2 * offset, size.y - 2 * offset);
         }
 
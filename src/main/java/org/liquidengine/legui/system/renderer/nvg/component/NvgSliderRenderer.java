@@ -7,6 +7,7 @@ import static org.lwjgl.nanovg.NanoVG.NVG_ROUND;
 import static org.lwjgl.nanovg.NanoVG.nvgSave;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Slider;
 import org.liquidengine.legui.component.optional.Orientation;
@@ -35,10 +36,10 @@ public class NvgSliderRenderer extends NvgDefaultComponentRenderer<Slider> {
         createScissor(nanovg, slider);
         {
             nvgSave(nanovg);
-            Vector2f pos = slider.getAbsolutePosition();
+            Vector2fc pos = slider.getAbsolutePositionView();
             Vector2f size = slider.getSize();
-            float x = pos.x;
-            float y = pos.y;
+            float x = pos.x();
+            float y = pos.y();
             float width = size.x;
             float height = size.y;
 
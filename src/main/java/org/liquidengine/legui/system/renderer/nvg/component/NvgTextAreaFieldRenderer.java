@@ -3,6 +3,7 @@ package org.liquidengine.legui.system.renderer.nvg.component;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.TextAreaField;
@@ -11,7 +12,6 @@ import org.liquidengine.legui.component.event.textarea.TextAreaFieldWidthChangeE
 import org.liquidengine.legui.component.optional.TextState;
 import org.liquidengine.legui.component.optional.align.HorizontalAlign;
 import org.liquidengine.legui.component.optional.align.VerticalAlign;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.style.Style;
 import org.liquidengine.legui.style.font.FontRegistry;
@@ -50,7 +50,7 @@ public class NvgTextAreaFieldRenderer extends NvgDefaultComponentRenderer<TextAr
     public void renderSelf(TextAreaField component, Context context, long nanovg) {
         createScissor(nanovg, component);
         {
-            Vector2f pos = component.getAbsolutePosition();
+            Vector2fc pos = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
             Style style = component.getStyle();
             Vector4f backgroundColor = new Vector4f(style.getBackground().getColor());
@@ -64,7 +64,7 @@ public class NvgTextAreaFieldRenderer extends NvgDefaultComponentRenderer<TextAr
             Vector4f viewportRect = null;
             if (parent != null) {
                 Vector2f pSize = parent.getSize();
-                viewportRect = new Vector4f(parent.getAbsolutePosition(), pSize.x, pSize.y);
+                viewportRect = new Vector4f(parent.getAbsolutePositionView(), pSize.x, pSize.y);
             }
 
             intersectScissor(nanovg, new Vector4f(textRect));
@@ -123,9 +123,8 @@ public class NvgTextAreaFieldRenderer extends NvgDefaultComponentRenderer<TextAr
             int mouseLineIndex = 0;
 
             int mouseCaretPositionInLine = 0;
-            Vector2f cursorPosition = Mouse.getCursorPosition();
-            float mouseX = cursorPosition.x;
-            float mouseY = cursorPosition.y;
+            float mouseX = leguiContext.getMouseState().getCursorX();
+            float mouseY = leguiContext.getMouseState().getCursorY();
 
             // we need to calculate x and y offsets
             String caretLineText = lines[caretLine];
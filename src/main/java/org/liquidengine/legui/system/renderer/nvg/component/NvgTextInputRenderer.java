@@ -3,13 +3,13 @@ package org.liquidengine.legui.system.renderer.nvg.component;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.TextInput;
 import org.liquidengine.legui.component.event.textinput.TextInputWidthChangeEvent;
 import org.liquidengine.legui.component.optional.TextState;
 import org.liquidengine.legui.component.optional.align.HorizontalAlign;
 import org.liquidengine.legui.component.optional.align.VerticalAlign;
-import org.liquidengine.legui.input.Mouse;
 import org.liquidengine.legui.listener.processor.EventProcessorProvider;
 import org.liquidengine.legui.style.Style;
 import org.liquidengine.legui.style.font.FontRegistry;
@@ -52,7 +52,7 @@ public class NvgTextInputRenderer extends NvgDefaultComponentRenderer<TextInput>
     protected void renderSelf(TextInput component, Context context, long nanovg) {
         createScissor(nanovg, component);
         {
-            Vector2f pos = component.getAbsolutePosition();
+            Vector2fc pos = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
             boolean enabled = component.isEnabled();
             Style style = component.getStyle();
@@ -162,7 +162,7 @@ public class NvgTextInputRenderer extends NvgDefaultComponentRenderer<TextInput>
                     if (textLength == 0) {
                         mouseCaretX = caretx;
                     } else {
-                        float mx = Mouse.getCursorPosition().x + poffset;
+                        float mx = leguiContext.getMouseState().getCursorX() + poffset;
                         if (mx <= glyphs.get(0).x()) {
                             mouseCaretPosition = 0;
                             mouseCaretX = glyphs.get(0).x();
@@ -10,6 +10,7 @@ import static org.liquidengine.legui.system.renderer.nvg.util.NvgRenderUtils.res
 import static org.lwjgl.nanovg.NanoVG.nvgIntersectScissor;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.ToggleButton;
 import org.liquidengine.legui.component.optional.TextState;
@@ -31,14 +32,14 @@ public class NvgToggleButtonRenderer extends NvgDefaultComponentRenderer<ToggleB
     protected void renderSelf(ToggleButton component, Context context, long nanovg) {
         createScissor(nanovg, component);
         {
-            Vector2f pos = component.getAbsolutePosition();
+            Vector2fc pos = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
 
             // render background
             renderBackground(nanovg, component, pos, size, context);
 
             // Render text
-            nvgIntersectScissor(nanovg, pos.x, pos.y, size.x, size.y);
+            nvgIntersectScissor(nanovg, pos.x(), pos.y(), size.x, size.y);
             TextState text = component.getTextState();
             Vector4f rect = new Vector4f(pos, size.x, size.y);
             NvgText.drawTextLineToRect(nanovg, rect, true,
@@ -52,7 +53,7 @@ public class NvgToggleButtonRenderer extends NvgDefaultComponentRenderer<ToggleB
         resetScissor(nanovg);
     }
 
-    private void renderBackground(long nvg, ToggleButton agui, Vector2f pos, Vector2f size, Context context) {
+    private void renderBackground(long nvg, ToggleButton agui, Vector2fc pos, Vector2f size, Context context) {
         Icon icon = getStyle(agui, s->s.getBackground().getIcon());
         Vector4f bgColor = getStyle(agui, s->s.getBackground().getColor());
         Vector4f cornerRadius = getBorderRadius(agui);
@@ -1,6 +1,7 @@
 package org.liquidengine.legui.system.renderer.nvg.component;
 
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
 import org.liquidengine.legui.component.Tooltip;
 import org.liquidengine.legui.component.optional.TextState;
@@ -35,7 +36,7 @@ public class NvgTooltipRenderer extends NvgDefaultComponentRenderer<Tooltip> {
         {
             Style style = component.getStyle();
             TextState textState = component.getTextState();
-            Vector2f pos = component.getAbsolutePosition();
+            Vector2fc pos = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
             float fontSize = getStyle(component, Style::getFontSize, 16F);
             String font = getStyle(component, Style::getFont, FontRegistry.getDefaultFont());
@@ -57,8 +58,8 @@ public class NvgTooltipRenderer extends NvgDefaultComponentRenderer<Tooltip> {
                 long start = memAddress(byteText);
                 long end = start + byteText.remaining();
 
-                float x = pos.x + padding.x;
-                float y = pos.y + padding.y;
+                float x = pos.x() + padding.x;
+                float y = pos.y() + padding.y;
                 float w = size.x - padding.x - padding.z;
                 float h = size.y - padding.y - padding.w;
 
@@ -24,10 +24,10 @@ import static org.lwjgl.system.MemoryUtil.memFree;
 import static org.lwjgl.system.MemoryUtil.memUTF8;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
 import org.joml.Vector2f;
+import org.joml.Vector2fc;
 import org.joml.Vector4f;
+import org.joml.Vector4fc;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.optional.align.HorizontalAlign;
 import org.liquidengine.legui.component.optional.align.VerticalAlign;
@@ -131,8 +131,10 @@ public final class NvgRenderUtils {
      * @param gui     {@link Component}.
      */
     public static void createScissor(long context, Component gui) {
-        Component parent = gui.getParent();
-        createScissorByParent(context, parent);
+        if (gui.getParent() != null) {
+            Vector4fc clip = gui.getClipBounds();
+            scissor(context, clip.x(), clip.y(), clip.z(), clip.w());
+        }
     }
 
     /**
@@ -156,33 +158,31 @@ public final class NvgRenderUtils {
     }
 
     /**
-     * Creates scissor by provided component and it's parent components.
+     * Creates scissor by provided component and it's parent components. Scissor is calculated from {@link Component#getClipBounds() clip bounds} of
+     * component, which are cached and propagated from parent components, so parent chain is not traversed.
      *
      * @param context nanovg context.
      * @param parent  parent component.
      */
     public static void createScissorByParent(long context, Component parent) {
-        List<Component> parents = new ArrayList<>();
-        while (parent != null) {
-            parents.add(parent);
-            parent = parent.getParent();
-        }
-        Vector2f pos = new Vector2f();
-        int size = parents.size();
-        if (size > 0) {
-            parent = parents.get(size - 1);
-            pos.add(parent.getPosition());
-            Vector2f s = parent.getSize();
-            createScissor(context, new Vector4f(pos, s.x, s.y));
-            if (size > 1) {
-                for (int i = size - 2; i >= 0; i--) {
-                    parent = parents.get(i);
-                    s = parent.getSize();
-                    pos.add(parent.getPosition());
-                    nvgIntersectScissor(context, pos.x, pos.y, s.x, s.y);
-                }
-            }
+        if (parent == null) {
+            return;
         }
+        Vector4fc clip = parent.getClipBounds();
+        Vector2fc position = parent.getAbsolutePositionView();
+        Vector2f size = parent.getSize();
+        scissor(context,
+                Math.max(clip.x(), position.x()),
+                Math.max(clip.y(), position.y()),
+                Math.min(clip.z(), position.x() + size.x),
+                Math.min(clip.w(), position.y() + size.y));
+    }
+
+    /**
+     * Used to set scissor to rectangle specified by its bounds. Empty rectangle results in empty scissor.
+     */
+    private static void scissor(long context, float minX, float minY, float maxX, float maxY) {
+        nvgScissor(context, minX, minY, Math.max(0, maxX - minX), Math.max(0, maxY - minY));
     }
 
     /**
@@ -199,13 +199,13 @@ public final class NvgRenderUtils {
         Vector4f r = StyleUtilities.getBorderRadius(component, style);
 
         if (component.isFocused()) {
-            applyCurrentRadius(r, component, component.getFocusedStyle());
+            applyCurrentRadius(r, component, component.getFocusedStyleOrDefault());
         }
         if (component.isHovered()) {
-            applyCurrentRadius(r, component, component.getHoveredStyle());
+            applyCurrentRadius(r, component, component.getHoveredStyleOrDefault());
         }
         if (component.isPressed()) {
-            applyCurrentRadius(r, component, component.getPressedStyle());
+            applyCurrentRadius(r, component, component.getPressedStyleOrDefault());
         }
 
         return r;
@@ -233,11 +233,11 @@ public final class NvgRenderUtils {
             float vOffset = shadow.getvOffset();
             float blur = shadow.getBlur();
             float spread = shadow.getSpread();
-            Vector2f absolutePosition = component.getAbsolutePosition();
+            Vector2fc absolutePosition = component.getAbsolutePositionView();
             Vector2f size = component.getSize();
 
-            float x = absolutePosition.x;
-            float y = absolutePosition.y;
+            float x = absolutePosition.x();
+            float y = absolutePosition.y();
             float w = size.x;
             float h = size.y;
             Vector4f borderRadius = getBorderRadius(component);
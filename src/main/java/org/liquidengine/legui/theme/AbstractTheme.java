@@ -26,8 +26,8 @@ public abstract class AbstractTheme<T extends Component> {
     public void applyAll(T component) {
         apply(component);
 
-        for (Component child : component.getChildComponents()) {
-            Themes.getDefaultTheme().applyAll(child);
+        for (int i = 0; i < component.count(); i++) {
+            Themes.getDefaultTheme().applyAll(component.getChild(i));
         }
     }
 
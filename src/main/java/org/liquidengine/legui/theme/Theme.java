@@ -27,6 +27,8 @@ public abstract class Theme {
     }
 
     public void applyAll(Frame frame) {
-        frame.getAllLayers().forEach(this::applyAll);
+        for (int i = 0; i < frame.getLayerCount(); i++) {
+            applyAll(frame.getLayer(i));
+        }
     }
 }
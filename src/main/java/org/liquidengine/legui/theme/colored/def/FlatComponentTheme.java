@@ -1,6 +1,5 @@
 package org.liquidengine.legui.theme.colored.def;
 
-import java.util.List;
 import org.liquidengine.legui.component.Component;
 import org.liquidengine.legui.component.Tooltip;
 import org.liquidengine.legui.component.optional.align.HorizontalAlign;
@@ -70,9 +69,8 @@ public class FlatComponentTheme<T extends Component> extends AbstractTheme<T> {
         if (tooltip != null) {
             Themes.getDefaultTheme().applyAll(tooltip);
         }
-        List<? extends Component> childComponents = component.getChildComponents();
-        for (Component child : childComponents) {
-            Themes.getDefaultTheme().applyAll(child);
+        for (int i = 0; i < component.count(); i++) {
+            Themes.getDefaultTheme().applyAll(component.getChild(i));
         }
     }
 }
@@ -0,0 +1,194 @@
+package org.liquidengine.legui.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.joml.Vector2f;
+import org.junit.Test;
+import org.liquidengine.legui.system.context.Context;
+import org.liquidengine.legui.system.handler.SehUtil;
+import org.liquidengine.legui.system.layout.DefaultLayoutManager;
+import org.liquidengine.legui.util.Allocations;
+
+public class ComponentChildrenTest {
+
+    @Test
+    public void childRemovingItselfDuringUpdateDoesNotSkipSiblings() {
+        Component parent = new Component();
+        List<Component> updated = new ArrayList<>();
+        UpdatedComponent first = new UpdatedComponent(updated);
+        UpdatedComponent second = new UpdatedComponent(updated);
+        UpdatedComponent third = new UpdatedComponent(updated);
+        parent.add(first);
+        parent.add(second);
+        parent.add(third);
+        second.onUpdate = c -> parent.remove(c);
+
+        parent.updateRecursively(null, null);
+
+        assertEquals(Arrays.asList(first, second, third), updated);
+        assertEquals(Arrays.asList(first, third), parent.getChildComponents());
+    }
+
+    @Test
+    public void childAddedDuringUpdateIsUpdatedOnNextPass() {
+        Component parent = new Component();
+        List<Component> updated = new ArrayList<>();
+        UpdatedComponent first = new UpdatedComponent(updated);
+        UpdatedComponent second = new UpdatedComponent(updated);
+        UpdatedComponent added = new UpdatedComponent(updated);
+        parent.add(first);
+        parent.add(second);
+        first.onUpdate = c -> {
+            if (!parent.contains(added)) {
+                parent.add(1, added);
+            }
+        };
+
+        parent.updateRecursively(null, null);
+        assertEquals(Arrays.asList(first, second), updated);
+
+        updated.clear();
+        parent.updateRecursively(null, null);
+        assertEquals(Arrays.asList(first, added, second), updated);
+    }
+
+    @Test
+    public void siblingRemovedDuringUpdateIsStillUpdatedInThatPass() {
+        Component parent = new Component();
+        List<Component> updated = new ArrayList<>();
+        UpdatedComponent first = new UpdatedComponent(updated);
+        UpdatedComponent second = new UpdatedComponent(updated);
+        parent.add(first);
+        parent.add(second);
+        first.onUpdate = c -> parent.remove(second);
+
+        parent.updateRecursively(null, null);
+
+        assertEquals(Arrays.asList(first, second), updated);
+        assertEquals(1, parent.count());
+    }
+
+    @Test
+    public void nestedUpdateAfterExceptionUpdatesWholeTree() {
+        Component root = new Component();
+        List<Component> updated = new ArrayList<>();
+        Component branch = new Component();
+        UpdatedComponent failing = new UpdatedComponent(updated);
+        UpdatedComponent leaf = new UpdatedComponent(updated);
+        branch.add(failing);
+        branch.add(leaf);
+        root.add(branch);
+        UpdatedComponent last = new UpdatedComponent(updated);
+        root.add(last);
+
+        failing.onUpdate = c -> {
+            throw new IllegalStateException();
+        };
+        try {
+            root.updateRecursively(null, null);
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals(Arrays.asList(failing), updated);
+        }
+
+        failing.onUpdate = null;
+        updated.clear();
+        root.updateRecursively(null, null);
+        assertEquals(Arrays.asList(failing, leaf, last), updated);
+    }
+
+    @Test
+    public void modificationCountChangesOnAddAndRemove() {
+        Component parent = new Component();
+        Component child = new Component();
+
+        int initial = parent.getChildModificationCount();
+        parent.add(child);
+        int afterAdd = parent.getChildModificationCount();
+        assertNotEquals(initial, afterAdd);
+
+        parent.getChild(0).setPosition(10, 10);
+        assertEquals(afterAdd, parent.getChildModificationCount());
+
+        parent.remove(child);
+        assertNotEquals(afterAdd, parent.getChildModificationCount());
+    }
+
+    @Test
+    public void frameTraversalsDoNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        List<Component> updated = new ArrayList<>(256);
+        for (int i = 0; i < 10; i++) {
+            Component child = new Component(i * 100, 0, 100, 1000);
+            for (int j = 0; j < 100; j++) {
+                child.add(new Component(0, j * 10, 100, 10));
+            }
+            layer.add(child);
+        }
+        UpdatedComponent counted = new UpdatedComponent(updated);
+        layer.getChild(9).getChild(99).add(counted);
+
+        Vector2f point = new Vector2f(950, 995);
+        Component expected = layer.getChild(9).getChild(99);
+        DefaultLayoutManager layoutManager = new DefaultLayoutManager();
+        Component[] found = new Component[3];
+
+        long updateBytes = Allocations.measure(() -> {
+            for (int n = 0; n < 100; n++) {
+                layer.updateRecursively(null, null);
+            }
+        });
+        long layoutBytes = Allocations.measure(() -> {
+            for (int n = 0; n < 100; n++) {
+                layoutManager.layout(layer, null, (Context) null);
+            }
+        });
+        long hitTestBytes = Allocations.measure(() -> {
+            for (int n = 0; n < 100; n++) {
+                // recursive search of a component, and index search of a layer
+                found[0] = SehUtil.getTargetComponent(layer.getChild(9), point);
+                found[1] = SehUtil.getTopComponent(layer.getChild(9), point);
+                found[2] = layer.getSpatialIndex().getTopComponent(point);
+            }
+        });
+
+        assertEquals(2 * 100, updated.size());
+        assertSame(expected, found[0]);
+        assertSame(expected, found[1]);
+        assertSame(expected, found[2]);
+        assertEquals("update", 0, updateBytes);
+        assertEquals("layout", 0, layoutBytes);
+        assertEquals("hit test", 0, hitTestBytes);
+    }
+
+    /**
+     * Component which records its updates and runs optional action on update.
+     */
+    private static final class UpdatedComponent extends Component {
+
+        private final List<Component> updated;
+        private Consumer<Component> onUpdate;
+
+        private UpdatedComponent(List<Component> updated) {
+            this.updated = updated;
+        }
+
+        @Override
+        public void update(Context context, Frame frame) {
+            updated.add(this);
+            if (onUpdate != null) {
+                onUpdate.accept(this);
+            }
+        }
+    }
+}
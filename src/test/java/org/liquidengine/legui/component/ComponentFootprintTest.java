@@ -0,0 +1,66 @@
+package org.liquidengine.legui.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+import org.liquidengine.legui.component.misc.listener.component.TabKeyEventListener;
+import org.liquidengine.legui.component.misc.listener.component.TooltipCursorEnterListener;
+import org.liquidengine.legui.event.CursorEnterEvent;
+import org.liquidengine.legui.event.KeyEvent;
+import org.liquidengine.legui.style.Style;
+import org.liquidengine.legui.util.Allocations;
+
+public class ComponentFootprintTest {
+
+    @Test
+    public void stateStylesAreCreatedOnFirstAccess() {
+        Component first = new Component();
+        Component second = new Component();
+        Style defaultStyle = first.getHoveredStyleOrDefault();
+        assertSame(defaultStyle, second.getHoveredStyleOrDefault());
+        assertSame(defaultStyle, first.getFocusedStyleOrDefault());
+        assertSame(defaultStyle, first.getPressedStyleOrDefault());
+
+        Style hovered = first.getHoveredStyle();
+        assertNotSame(defaultStyle, hovered);
+        assertSame(hovered, first.getHoveredStyle());
+        assertSame(hovered, first.getHoveredStyleOrDefault());
+        assertSame(defaultStyle, second.getHoveredStyleOrDefault());
+    }
+
+    @Test
+    public void metadataIsCreatedOnFirstAccess() {
+        Component component = new Component();
+        component.getMetadata().put("key", "value");
+        assertEquals("value", component.getMetadata().get("key"));
+        assertTrue(new Component().getMetadata().isEmpty());
+    }
+
+    @Test
+    public void defaultListenersAreShared() {
+        Component first = new Component();
+        Component second = new Component();
+        assertSame(TooltipCursorEnterListener.getInstance(), first.getListenerMap().getListeners(CursorEnterEvent.class).get(0));
+        assertSame(TabKeyEventListener.getInstance(), first.getListenerMap().getListeners(KeyEvent.class).get(0));
+        assertSame(first.getListenerMap().getListeners(KeyEvent.class).get(0), second.getListenerMap().getListeners(KeyEvent.class).get(0));
+    }
+
+    @Test
+    public void readingStateStylesDoesNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+        Component component = new Component();
+        Object[] sink = new Object[1];
+        long allocated = Allocations.measure(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                sink[0] = component.getHoveredStyleOrDefault().getBackground();
+                sink[0] = component.getFocusedStyleOrDefault().getBorder();
+                sink[0] = component.getPressedStyleOrDefault().getFlexStyle();
+            }
+        });
+        assertEquals(0, allocated);
+    }
+}
@@ -0,0 +1,88 @@
+package org.liquidengine.legui.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.joml.Vector2f;
+import org.joml.Vector4f;
+import org.junit.Test;
+import org.liquidengine.legui.util.Utilites;
+
+public class ComponentTransformTest {
+
+    @Test
+    public void setPositionCopiesPassedVector() {
+        Panel parent = new Panel(100, 100, 200, 200);
+        Panel child = new Panel(0, 0, 20, 20);
+        parent.add(child);
+
+        Vector2f position = new Vector2f(10, 10);
+        child.setPosition(position);
+        assertEquals(new Vector2f(110, 110), new Vector2f(child.getAbsolutePositionView()));
+
+        position.set(500, 500);
+        assertEquals(new Vector2f(10, 10), child.getPosition());
+        assertEquals(new Vector2f(110, 110), new Vector2f(child.getAbsolutePositionView()));
+        assertTrue(Utilites.visibleInParents(child));
+    }
+
+    @Test
+    public void setSizeCopiesPassedVector() {
+        Panel parent = new Panel(0, 0, 200, 200);
+        Panel child = new Panel(150, 150, 20, 20);
+        parent.add(child);
+
+        Vector2f size = new Vector2f(100, 100);
+        parent.setSize(size);
+        assertEquals(new Vector4f(0, 0, 100, 100), new Vector4f(child.getClipBounds()));
+        assertFalse(Utilites.visibleInParents(child));
+
+        size.set(300, 300);
+        assertEquals(new Vector2f(100, 100), parent.getSize());
+        assertEquals(new Vector4f(0, 0, 100, 100), new Vector4f(child.getClipBounds()));
+        assertFalse(Utilites.visibleInParents(child));
+    }
+
+    @Test
+    public void constructorCopiesPassedVectors() {
+        Vector2f position = new Vector2f(10, 20);
+        Vector2f size = new Vector2f(30, 40);
+        Panel panel = new Panel(position, size);
+
+        position.set(0, 0);
+        size.set(0, 0);
+        assertEquals(new Vector2f(10, 20), panel.getPosition());
+        assertEquals(new Vector2f(30, 40), panel.getSize());
+    }
+
+    @Test
+    public void settingOwnVectorRefreshesCachedBounds() {
+        Panel parent = new Panel(100, 100, 200, 200);
+        Panel child = new Panel(10, 10, 20, 20);
+        Panel grandChild = new Panel(0, 0, 5, 5);
+        parent.add(child);
+        child.add(grandChild);
+        assertEquals(new Vector2f(110, 110), new Vector2f(grandChild.getAbsolutePositionView()));
+
+        child.getPosition().x = 300;
+        child.setPosition(child.getPosition());
+
+        assertEquals(new Vector2f(400, 110), new Vector2f(grandChild.getAbsolutePositionView()));
+        assertFalse(Utilites.visibleInParents(child));
+        assertFalse(Utilites.visibleInParents(grandChild));
+    }
+
+    @Test
+    public void movingParentUpdatesChildTransform() {
+        Panel parent = new Panel(0, 0, 100, 100);
+        Panel child = new Panel(10, 10, 20, 20);
+        parent.add(child);
+        assertEquals(new Vector4f(0, 0, 100, 100), new Vector4f(child.getClipBounds()));
+
+        parent.setPosition(50, 60);
+
+        assertEquals(new Vector2f(60, 70), new Vector2f(child.getAbsolutePositionView()));
+        assertEquals(new Vector4f(50, 60, 150, 160), new Vector4f(child.getClipBounds()));
+    }
+}
@@ -0,0 +1,40 @@
+package org.liquidengine.legui.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.joml.Vector4fc;
+import org.junit.Test;
+import org.liquidengine.legui.util.Utilites;
+
+public class WidgetTest {
+
+    @Test
+    public void minimizeUpdatesClipBoundsOfChildren() {
+        Widget widget = new Widget(10, 10, 200, 150);
+        float titleHeight = widget.getTitleHeight();
+
+        Component container = widget.getContainer();
+        container.setPosition(0, titleHeight);
+        container.setSize(200, 150 - titleHeight);
+
+        Panel child = new Panel(10, 10, 50, 50);
+        container.add(child);
+
+        assertTrue(Utilites.visibleInParents(child));
+        assertEquals(160f, child.getClipBounds().w(), 0f);
+
+        widget.setMinimized(true);
+
+        assertEquals(titleHeight, widget.getSize().y, 0f);
+        Vector4fc clip = child.getClipBounds();
+        assertEquals(10f + titleHeight, clip.w(), 0f);
+        assertFalse(Utilites.visibleInParents(child));
+
+        widget.setMinimized(false);
+
+        assertEquals(160f, child.getClipBounds().w(), 0f);
+        assertTrue(Utilites.visibleInParents(child));
+    }
+}
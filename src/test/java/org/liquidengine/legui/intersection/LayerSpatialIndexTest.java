@@ -0,0 +1,474 @@
+package org.liquidengine.legui.intersection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.joml.Vector2f;
+import org.joml.Vector2fc;
+import org.junit.Test;
+import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.component.Layer;
+import org.liquidengine.legui.component.Panel;
+import org.liquidengine.legui.style.Style.DisplayType;
+import org.liquidengine.legui.system.handler.SehUtil;
+
+public class LayerSpatialIndexTest {
+
+    @Test
+    public void insertedComponentKeepsDepthFirstOrder() {
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        Panel bottom = new Panel(0, 0, 100, 100);
+        Panel top = new Panel(0, 0, 100, 100);
+        layer.add(bottom);
+        layer.add(top);
+
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        Vector2f point = new Vector2f(50, 50);
+        assertSame(top, index.getTopComponent(point));
+
+        Panel middle = new Panel(10, 10, 50, 50);
+        bottom.add(middle);
+        List<Component> targets = new ArrayList<>();
+        index.getTargetComponents(point, targets);
+        assertEquals(Arrays.asList(bottom, middle, top), targets);
+
+        layer.remove(top);
+        assertSame(middle, index.getTopComponent(point));
+
+        bottom.remove(middle);
+        assertSame(bottom, index.getTopComponent(point));
+        assertNull(index.getTopComponent(new Vector2f(500, 500)));
+    }
+
+    @Test
+    public void movedComponentIsFoundAtNewCell() {
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        Panel panel = new Panel(0, 0, 10, 10);
+        layer.add(panel);
+
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        assertSame(panel, index.getTopComponent(new Vector2f(5, 5)));
+
+        panel.setPosition(600, 600);
+        assertNull(index.getTopComponent(new Vector2f(5, 5)));
+        assertSame(panel, index.getTopComponent(new Vector2f(605, 605)));
+    }
+
+    @Test
+    public void cellMapKeepsProbeSequenceAfterRemove() {
+        int mask = LayerSpatialIndex.CellMap.INITIAL_CAPACITY - 1;
+        // keys with the same home slot form one probe sequence; slot 'mask' makes the sequence wrap around the end of the table
+        for (int home : new int[]{5, mask}) {
+            LayerSpatialIndex.CellMap map = new LayerSpatialIndex.CellMap();
+            int[] xs = cellsWithHomeSlot(home, 4);
+            int[] next = cellsWithHomeSlot((home + 1) & mask, 1);
+
+            Map<Integer, Object> cells = new HashMap<>();
+            for (int x : xs) {
+                cells.put(x, map.getOrCreate(x, 0));
+            }
+            // occupies a slot inside the sequence of the keys above, so it has to be shifted back as well
+            cells.put(next[0], map.getOrCreate(next[0], 0));
+
+            map.remove(xs[1], 0);
+            cells.remove(xs[1]);
+            assertCells(map, cells);
+
+            map.remove(xs[0], 0);
+            cells.remove(xs[0]);
+            assertCells(map, cells);
+            assertNull(map.get(xs[0], 0));
+            assertNull(map.get(xs[1], 0));
+
+            cells.put(xs[1], map.getOrCreate(xs[1], 0));
+            map.remove(xs[3], 0);
+            cells.remove(xs[3]);
+            assertCells(map, cells);
+        }
+
+        // key which sits in its own home slot right after the end of the table must not be moved before it
+        LayerSpatialIndex.CellMap map = new LayerSpatialIndex.CellMap();
+        int atStart = cellsWithHomeSlot(0, 1)[0];
+        int atEnd = cellsWithHomeSlot(mask, 1)[0];
+        Object start = map.getOrCreate(atStart, 0);
+        map.getOrCreate(atEnd, 0);
+        map.remove(atEnd, 0);
+        assertSame(start, map.get(atStart, 0));
+        assertNull(map.get(atEnd, 0));
+    }
+
+    @Test
+    public void cellMapMatchesHashMapUnderRandomChanges() {
+        Random random = new Random(16);
+        LayerSpatialIndex.CellMap map = new LayerSpatialIndex.CellMap();
+        Map<Long, Object> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // small range gives many removes of existing keys, negative coordinates check key packing
+            int x = random.nextInt(64) - 32;
+            int y = random.nextInt(64) - 32;
+            long key = LayerSpatialIndex.CellMap.key(x, y);
+            if (random.nextInt(3) == 0) {
+                map.remove(x, y);
+                expected.remove(key);
+            } else {
+                Object cell = map.getOrCreate(x, y);
+                Object previous = expected.putIfAbsent(key, cell);
+                if (previous != null) {
+                    assertSame(previous, cell);
+                }
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int x = -32; x < 32; x++) {
+            for (int y = -32; y < 32; y++) {
+                assertSame(expected.get(LayerSpatialIndex.CellMap.key(x, y)), map.get(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void repeatedInsertsBetweenTwoSiblingsKeepOrder() {
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        Panel first = new Panel(0, 0, 100, 100);
+        Panel last = new Panel(0, 0, 100, 100);
+        layer.add(first);
+        layer.add(last);
+        Vector2f point = new Vector2f(50, 50);
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        assertSame(last, index.getTopComponent(point));
+        int rebuilds = index.getRebuildCount();
+
+        // every insert halves the gap below the previously inserted panel, so the gap runs out after about 20 inserts
+        List<Component> expected = new ArrayList<>();
+        expected.add(first);
+        for (int i = 0; i < 64; i++) {
+            Panel panel = new Panel(i % 8, i % 8, 100, 100);
+            layer.add(1, panel);
+            expected.add(1, panel);
+
+            List<Component> targets = new ArrayList<>();
+            index.getTargetComponents(point, targets);
+            List<Component> all = new ArrayList<>(expected);
+            all.add(last);
+            assertEquals(all, targets);
+            assertBruteForce(layer, point);
+            if (i < 16) {
+                assertEquals(rebuilds, index.getRebuildCount());
+            }
+        }
+        // gap was exhausted and restored by rebuild, but not on every insert
+        int gapRebuilds = index.getRebuildCount() - rebuilds;
+        assertTrue("rebuilds: " + gapRebuilds, gapRebuilds >= 1 && gapRebuilds <= 4);
+
+        // subtree bigger than the remaining gap
+        Panel subtree = new Panel(0, 0, 100, 100);
+        for (int i = 0; i < 100; i++) {
+            subtree.add(new Panel(0, 0, 100 - i, 100 - i));
+        }
+        layer.add(1, subtree);
+        assertBruteForce(layer, point);
+        assertBruteForce(layer, new Vector2f(99, 99));
+    }
+
+    @Test
+    public void changesOnBothSidesOfRebuildThresholdAreIndexed() {
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        List<Panel> panels = new ArrayList<>();
+        for (int i = 0; i < 80; i++) {
+            Panel panel = new Panel((i % 10) * 90, (i / 10) * 90, 80, 80);
+            panel.add(new Panel(10, 10, 20, 20));
+            layer.add(panel);
+            panels.add(panel);
+        }
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        assertBruteForceGrid(layer);
+        int rebuilds = index.getRebuildCount();
+
+        // few dirty components: only their entries are refreshed
+        for (int i = 0; i < 5; i++) {
+            panels.get(i * 7).setPosition(panels.get(i * 7).getPosition().x + 45, 700 + i);
+        }
+        assertBruteForceGrid(layer);
+        assertEquals(rebuilds, index.getRebuildCount());
+
+        // more than one eighth of entries are dirty: index is rebuilt
+        for (int i = 0; i < 60; i++) {
+            panels.get(i).setSize(40 + i, 30);
+        }
+        assertBruteForceGrid(layer);
+        assertEquals(rebuilds + 1, index.getRebuildCount());
+
+        // dirty component which is then removed, and dirty component which gets a child before next query
+        panels.get(70).setPosition(0, 0);
+        layer.remove(panels.get(70));
+        panels.get(71).setPosition(5, 5);
+        panels.get(71).add(new Panel(0, 0, 50, 50));
+        assertSame(panels.get(71).getChild(1), index.getTopComponent(new Vector2f(10, 10)));
+        assertBruteForceGrid(layer);
+    }
+
+    @Test
+    public void componentsSpanningManyCellsAndNegativeCoordinates() {
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        Panel huge = new Panel(-5000, -5000, 10000, 10000);
+        Panel wide = new Panel(-200, -130, 900, 700);
+        Panel tiny = new Panel(-1, -1, 1, 1);
+        Panel edge = new Panel(-64, -128, 64, 64);
+        layer.add(huge);
+        layer.add(wide);
+        layer.add(tiny);
+        layer.add(edge);
+        Panel hugeOnTop = new Panel(-3000, 100, 6000, 6000);
+        layer.add(hugeOnTop);
+
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        assertSame(huge, index.getTopComponent(new Vector2f(-4000, -4000)));
+        assertSame(wide, index.getTopComponent(new Vector2f(-150, -100)));
+        assertSame(tiny, index.getTopComponent(new Vector2f(-0.5f, -0.5f)));
+        assertSame(tiny, index.getTopComponent(new Vector2f(0, 0)));
+        assertSame(edge, index.getTopComponent(new Vector2f(-64, -128)));
+        assertSame(edge, index.getTopComponent(new Vector2f(0, -64)));
+        assertSame(hugeOnTop, index.getTopComponent(new Vector2f(600, 500)));
+        assertNull(index.getTopComponent(new Vector2f(-6000, 0)));
+
+        for (int x = -260; x <= 760; x += 16) {
+            for (int y = -260; y <= 760; y += 16) {
+                assertBruteForce(layer, new Vector2f(x, y));
+            }
+        }
+
+        // moving from grid to oversized list and back
+        wide.setSize(5000, 5000);
+        assertSame(hugeOnTop, index.getTopComponent(new Vector2f(600, 500)));
+        assertSame(wide, index.getTopComponent(new Vector2f(3000, 50)));
+        wide.setSize(100, 100);
+        assertSame(huge, index.getTopComponent(new Vector2f(3000, 50)));
+        assertBruteForce(layer, new Vector2f(-150, -100));
+    }
+
+    @Test
+    public void hiddenDisabledAndNotFocusableComponents() {
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        Panel parent = new Panel(0, 0, 200, 200);
+        Panel child = new Panel(10, 10, 50, 50);
+        parent.add(child);
+        layer.add(parent);
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        Vector2f point = new Vector2f(20, 20);
+        assertSame(child, index.getTargetComponent(point));
+
+        // visibility is checked on query, for the component and all of its parents
+        setVisible(parent, false);
+        assertNull(index.getTopComponent(point));
+        assertBruteForce(layer, point);
+        setVisible(parent, true);
+        setVisible(child, false);
+        assertSame(parent, index.getTopComponent(point));
+        setVisible(child, true);
+
+        // disabled components are still hit, as they were by the recursive search
+        child.setEnabled(false);
+        assertSame(child, index.getTargetComponent(point));
+        assertBruteForce(layer, point);
+        child.setEnabled(true);
+
+        child.setFocusable(false);
+        assertSame(parent, index.getTargetComponent(point));
+        assertSame(child, index.getTopComponent(point));
+        parent.setFocusable(false);
+        assertNull(index.getTargetComponent(point));
+        assertBruteForce(layer, point);
+    }
+
+    @Test
+    public void randomChangesMatchRecursiveSearch() {
+        Random random = new Random(2016);
+        Layer layer = new Layer();
+        layer.setSize(1000, 1000);
+        List<Component> components = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            addRandom(random, layer, components, 0);
+        }
+
+        for (int step = 0; step < 400; step++) {
+            Component component = components.get(random.nextInt(components.size()));
+            switch (random.nextInt(9)) {
+                case 0:
+                    component.setPosition(coordinate(random), coordinate(random));
+                    break;
+                case 1:
+                    component.setSize(size(random), size(random));
+                    break;
+                case 2:
+                    setVisible(component, !component.isVisible());
+                    break;
+                case 3:
+                    component.setFocusable(!component.isFocusable());
+                    break;
+                case 4:
+                    component.setIntersector(component.getIntersector() instanceof CircleIntersector ? new RectangleIntersector() : new CircleIntersector());
+                    break;
+                case 5:
+                    addRandom(random, random.nextBoolean() ? layer : component, components, 0);
+                    break;
+                case 6:
+                    if (component.getParent() != null) {
+                        removeTree(component, components);
+                    }
+                    break;
+                case 7:
+                    Component parent = component.getParent();
+                    if (parent != null) {
+                        parent.remove(component);
+                        parent.add(random.nextInt(parent.count() + 1), component);
+                    }
+                    break;
+                default:
+                    Component newParent = components.get(random.nextInt(components.size()));
+                    if (component.getParent() != null && !isInTree(newParent, component)) {
+                        component.getParent().remove(component);
+                        newParent.add(component);
+                    }
+                    break;
+            }
+            for (int i = 0; i < 20; i++) {
+                assertBruteForce(layer, new Vector2f(coordinate(random), coordinate(random)));
+            }
+        }
+    }
+
+    private static void setVisible(Component component, boolean visible) {
+        component.getStyle().setDisplay(visible ? DisplayType.MANUAL : DisplayType.NONE);
+    }
+
+    private static void addRandom(Random random, Component parent, List<Component> components, int depth) {
+        Panel panel = new Panel(coordinate(random), coordinate(random), size(random), size(random));
+        panel.setFocusable(random.nextInt(4) != 0);
+        if (random.nextInt(8) == 0) {
+            panel.setIntersector(new CircleIntersector());
+        }
+        if (depth < 3) {
+            int children = random.nextInt(3);
+            for (int i = 0; i < children; i++) {
+                addRandom(random, panel, components, depth + 1);
+            }
+        }
+        parent.add(parent.count() == 0 ? 0 : random.nextInt(parent.count() + 1), panel);
+        components.add(panel);
+    }
+
+    private static void removeTree(Component component, List<Component> components) {
+        component.getParent().remove(component);
+        List<Component> removed = new ArrayList<>();
+        collect(component, removed);
+        components.removeAll(removed);
+        if (components.isEmpty()) {
+            components.add(component);
+        }
+    }
+
+    private static void collect(Component component, List<Component> list) {
+        list.add(component);
+        for (int i = 0; i < component.count(); i++) {
+            collect(component.getChild(i), list);
+        }
+    }
+
+    private static boolean isInTree(Component component, Component root) {
+        for (Component c = component; c != null; c = c.getParent()) {
+            if (c == root) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static float coordinate(Random random) {
+        // whole numbers put points and edges on cell borders; occasionally far outside of the layer
+        return random.nextInt(10) == 0 ? random.nextInt(8000) - 4000 : random.nextInt(900) - 100;
+    }
+
+    private static float size(Random random) {
+        return random.nextInt(10) == 0 ? random.nextInt(6000) : random.nextInt(300);
+    }
+
+    private static void assertBruteForceGrid(Layer layer) {
+        for (int x = 0; x < 1000; x += 13) {
+            for (int y = 0; y < 1000; y += 13) {
+                assertBruteForce(layer, new Vector2f(x, y));
+            }
+        }
+    }
+
+    /**
+     * Compares index queries with recursive search of child components of the layer.
+     */
+    private static void assertBruteForce(Layer layer, Vector2fc point) {
+        List<Component> expected = new ArrayList<>();
+        for (int i = 0; i < layer.count(); i++) {
+            SehUtil.recursiveTargetComponentListSearch(point, layer.getChild(i), expected);
+        }
+        Component expectedTarget = null;
+        for (Component component : expected) {
+            if (component.isFocusable()) {
+                expectedTarget = component;
+            }
+        }
+
+        LayerSpatialIndex index = layer.getSpatialIndex();
+        List<Component> targets = new ArrayList<>();
+        index.getTargetComponents(point, targets);
+        assertEquals("components under " + point, expected, targets);
+        assertSame(expected.isEmpty() ? null : expected.get(expected.size() - 1), index.getTopComponent(point));
+        assertSame(expectedTarget, index.getTargetComponent(point));
+    }
+
+    private static void assertCells(LayerSpatialIndex.CellMap map, Map<Integer, Object> cells) {
+        assertEquals(cells.size(), map.size());
+        for (Map.Entry<Integer, Object> cell : cells.entrySet()) {
+            assertSame(cell.getValue(), map.get(cell.getKey(), 0));
+        }
+    }
+
+    private static int[] cellsWithHomeSlot(int slot, int count) {
+        int mask = LayerSpatialIndex.CellMap.INITIAL_CAPACITY - 1;
+        int[] xs = new int[count];
+        int found = 0;
+        for (int x = 0; found < count; x++) {
+            if ((LayerSpatialIndex.CellMap.hash(LayerSpatialIndex.CellMap.key(x, 0)) & mask) == slot) {
+                xs[found++] = x;
+            }
+        }
+        return xs;
+    }
+
+    /**
+     * Intersector of circle inscribed into component bounds.
+     */
+    private static final class CircleIntersector extends Intersector {
+
+        @Override
+        public boolean intersects(Component component, Vector2fc point) {
+            Vector2fc position = component.getAbsolutePositionView();
+            Vector2f size = component.getSize();
+            float radius = Math.min(size.x, size.y) / 2f;
+            float dx = point.x() - (position.x() + size.x / 2f);
+            float dy = point.y() - (position.y() + size.y / 2f);
+            return dx * dx + dy * dy <= radius * radius;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.liquidengine.legui.listener.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.liquidengine.legui.component.Component;
+import org.liquidengine.legui.event.Event;
+import org.liquidengine.legui.event.ScrollEvent;
+import org.liquidengine.legui.listener.EventListener;
+import org.liquidengine.legui.listener.ListenerMap;
+
+public class EventProcessorImplTest {
+
+    private final EventProcessorImpl processor = new EventProcessorImpl();
+    private final List<String> calls = new ArrayList<>();
+
+    private Component root;
+    private Component middle;
+    private Component leaf;
+
+    @Before
+    public void createTree() {
+        root = new Component();
+        middle = new Component();
+        leaf = new Component();
+        root.add(middle);
+        middle.add(leaf);
+    }
+
+    @Test
+    public void propagatingEventGoesThroughCaptureTargetAndBubblePhases() {
+        for (Component component : Arrays.asList(root, middle, leaf)) {
+            component.getListenerMap().addCaptureListener(ScrollEvent.class, record("capture"));
+            component.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+        }
+
+        dispatch(new ScrollEvent<>(leaf, null, null, 0, 1));
+
+        assertEquals(Arrays.asList(
+            "capture root CAPTURE",
+            "capture middle CAPTURE",
+            "capture leaf AT_TARGET",
+            "listener leaf AT_TARGET",
+            "listener middle BUBBLE",
+            "listener root BUBBLE"), calls);
+    }
+
+    @Test
+    public void targetComponentStaysInnermostComponentDuringPropagation() {
+        List<Component> targets = new ArrayList<>();
+        EventListener<ScrollEvent> listener = event -> targets.add(event.getTargetComponent());
+        root.getListenerMap().addCaptureListener(ScrollEvent.class, listener);
+        middle.getListenerMap().addListener(ScrollEvent.class, listener);
+
+        dispatch(new ScrollEvent<>(leaf, null, null, 0, 1));
+
+        assertEquals(Arrays.asList(leaf, leaf), targets);
+    }
+
+    @Test
+    public void stopPropagationInCaptureKeepsOtherListenersOfSameComponent() {
+        middle.getListenerMap().addCaptureListener(ScrollEvent.class, event -> {
+            calls.add("stop");
+            event.stopPropagation();
+        });
+        middle.getListenerMap().addCaptureListener(ScrollEvent.class, record("capture"));
+        leaf.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+        root.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+
+        ScrollEvent<Component> event = new ScrollEvent<>(leaf, null, null, 0, 1);
+        dispatch(event);
+
+        assertEquals(Arrays.asList("stop", "capture middle CAPTURE"), calls);
+        assertTrue(event.isPropagationStopped());
+        assertFalse(event.isConsumed());
+    }
+
+    @Test
+    public void stopPropagationAtTargetSkipsBubblePhase() {
+        leaf.getListenerMap().addListener(ScrollEvent.class, event -> {
+            calls.add("stop");
+            event.stopPropagation();
+        });
+        leaf.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+        middle.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+
+        dispatch(new ScrollEvent<>(leaf, null, null, 0, 1));
+
+        assertEquals(Arrays.asList("stop", "listener leaf AT_TARGET"), calls);
+    }
+
+    @Test
+    public void consumedEventSkipsRemainingListeners() {
+        middle.getListenerMap().addListener(ScrollEvent.class, event -> {
+            calls.add("consume");
+            event.consume();
+        });
+        middle.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+        root.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+        leaf.getListenerMap().addListener(ScrollEvent.class, record("listener"));
+
+        ScrollEvent<Component> event = new ScrollEvent<>(leaf, null, null, 0, 1);
+        dispatch(event);
+
+        assertEquals(Arrays.asList("listener leaf AT_TARGET", "consume"), calls);
+        assertTrue(event.isConsumed());
+        assertTrue(event.isPropagationStopped());
+    }
+
+    @Test
+    public void captureListenersAreStoredApartFromListeners() {
+        EventListener<ScrollEvent> capture = record("capture");
+        ListenerMap listenerMap = middle.getListenerMap();
+        listenerMap.addCaptureListener(ScrollEvent.class, capture);
+
+        int eventTypeId = ListenerMap.getEventTypeId(ScrollEvent.class);
+        assertEquals(1, listenerMap.getCaptureListenerArray(eventTypeId).length);
+        assertEquals(0, listenerMap.getListenerArray(eventTypeId).length);
+        assertFalse(listenerMap.hasListeners(ScrollEvent.class));
+        assertTrue(listenerMap.getListeners(ScrollEvent.class).isEmpty());
+
+        listenerMap.removeCaptureListener(ScrollEvent.class, capture);
+        assertEquals(0, listenerMap.getCaptureListenerArray(eventTypeId).length);
+    }
+
+    @Test
+    public void eventWhichDoesNotPropagateReachesOnlyTargetListeners() {
+        root.getListenerMap().addCaptureListener(TargetEvent.class, record("capture"));
+        middle.getListenerMap().addListener(TargetEvent.class, record("listener"));
+        leaf.getListenerMap().addCaptureListener(TargetEvent.class, record("capture"));
+        leaf.getListenerMap().addListener(TargetEvent.class, record("listener"));
+
+        dispatch(new TargetEvent(leaf));
+
+        assertEquals(Arrays.asList("listener leaf AT_TARGET"), calls);
+    }
+
+    @Test
+    public void eventsWithoutTargetAreSkipped() {
+        leaf.getListenerMap().addListener(TargetEvent.class, record("listener"));
+
+        processor.pushEvent(new TargetEvent(null));
+        processor.pushEvent(new TargetEvent(leaf));
+        processor.pushEvent(new TargetEvent(null));
+        processor.pushEvent(new TargetEvent(leaf));
+        processor.processEvents();
+
+        assertEquals(Arrays.asList("listener leaf AT_TARGET", "listener leaf AT_TARGET"), calls);
+        assertFalse(processor.hasEvents());
+    }
+
+    private void dispatch(Event event) {
+        processor.pushEvent(event);
+        processor.processEvents();
+    }
+
+    private <E extends Event> EventListener<E> record(String name) {
+        return event -> calls.add(name + " " + name(event.getCurrentTarget()) + " " + event.getPhase());
+    }
+
+    private String name(Component component) {
+        return component == root ? "root" : component == middle ? "middle" : component == leaf ? "leaf" : "?";
+    }
+
+    /**
+     * Event which is delivered only to its target.
+     */
+    private static final class TargetEvent extends Event<Component> {
+
+        private TargetEvent(Component target) {
+            super(target, null, null);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.liquidengine.legui.system.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+import org.liquidengine.legui.util.Allocations;
+
+public class SystemEventQueueTest {
+
+    @Test
+    public void eventsKeepOrderWhenBufferWraps() {
+        SystemEventQueue queue = new SystemEventQueue(4);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                queue.pushCursorPos(1, next, -next);
+                next++;
+            }
+            for (int i = 0; i < 3; i++) {
+                SystemCursorPosEvent event = (SystemCursorPosEvent) queue.poll();
+                assertEquals(expected, event.xpos, 0);
+                assertEquals(-expected, event.ypos, 0);
+                expected++;
+            }
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void overflowKeepsOrder() {
+        SystemEventQueue queue = new SystemEventQueue(2);
+        for (int codepoint = 1; codepoint <= 5; codepoint++) {
+            queue.pushChar(1, codepoint);
+        }
+        assertEquals(5, queue.size());
+
+        assertEquals(1, ((SystemCharEvent) queue.poll()).codepoint);
+        // buffer has free slot now, but event should follow already overflown ones
+        queue.pushChar(1, 6);
+        for (int codepoint = 2; codepoint <= 6; codepoint++) {
+            assertEquals(codepoint, ((SystemCharEvent) queue.poll()).codepoint);
+        }
+        assertTrue(queue.isEmpty());
+
+        queue.pushChar(1, 7);
+        assertEquals(7, ((SystemCharEvent) queue.poll()).codepoint);
+    }
+
+    @Test
+    public void eventsOfDifferentTypesKeepOrderInOverflow() {
+        SystemEventQueue queue = new SystemEventQueue(1);
+        queue.pushKey(1, 65, 0, 1, 0);
+        queue.pushMouseClick(1, 0, 1, 0);
+        queue.pushScroll(1, 0, 2);
+
+        assertEquals(65, ((SystemKeyEvent) queue.poll()).key);
+        assertEquals(SystemEventType.KEY.ordinal(), queue.getPolledType());
+        assertTrue(queue.poll() instanceof SystemMouseClickEvent);
+        assertEquals(SystemEventType.MOUSE_CLICK.ordinal(), queue.getPolledType());
+        assertEquals(2, ((SystemScrollEvent) queue.poll()).yoffset, 0);
+        assertEquals(SystemEventType.SCROLL.ordinal(), queue.getPolledType());
+    }
+
+    @Test
+    public void cursorEventsCollapseToLastPosition() {
+        SystemEventQueue queue = new SystemEventQueue(16);
+        queue.setCoalescing(true);
+        queue.pushCursorPos(1, 10, 20);
+        queue.pushCursorPos(1, 11, 21);
+        queue.pushCursorPos(1, 12, 22);
+
+        SystemCursorPosEvent event = (SystemCursorPosEvent) queue.poll();
+        assertEquals(1, event.window);
+        assertEquals(12, event.xpos, 0);
+        assertEquals(22, event.ypos, 0);
+        assertEquals(3, queue.getPolledCount());
+        assertEquals(2, queue.getCoalescedCount());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void scrollOffsetsAreSummed() {
+        SystemEventQueue queue = new SystemEventQueue(16);
+        queue.setCoalescing(true);
+        queue.pushScroll(1, 1, -1);
+        queue.pushScroll(1, 0.5, -2);
+        queue.pushScroll(1, 0, -3);
+        queue.pushScroll(1, -2, 0);
+
+        SystemScrollEvent event = (SystemScrollEvent) queue.poll();
+        assertEquals(-0.5, event.xoffset, 0);
+        assertEquals(-6, event.yoffset, 0);
+        assertEquals(4, queue.getPolledCount());
+        assertEquals(3, queue.getCoalescedCount());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void eventsOfDifferentWindowsAreNotMerged() {
+        SystemEventQueue queue = new SystemEventQueue(16);
+        queue.setCoalescing(true);
+        queue.pushCursorPos(1, 1, 1);
+        queue.pushCursorPos(1, 2, 2);
+        queue.pushCursorPos(2, 3, 3);
+        queue.pushCursorPos(1, 4, 4);
+
+        assertCursorPos(queue.poll(), 1, 2, 2);
+        assertEquals(2, queue.getPolledCount());
+        assertCursorPos(queue.poll(), 2, 3, 3);
+        assertEquals(1, queue.getPolledCount());
+        assertCursorPos(queue.poll(), 1, 4, 4);
+        assertEquals(1, queue.getPolledCount());
+        assertEquals(1, queue.getCoalescedCount());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void interleavedEventsAreNotMerged() {
+        SystemEventQueue queue = new SystemEventQueue(16);
+        queue.setCoalescing(true);
+        SystemCursorPosEvent pushed = new SystemCursorPosEvent(1, 5, 5);
+        queue.pushScroll(1, 0, 1);
+        queue.pushCursorPos(1, 1, 1);
+        queue.pushScroll(1, 0, 2);
+        queue.pushKey(1, 65, 0, 1, 0);
+        queue.pushScroll(1, 0, 3);
+        queue.pushCursorPos(1, 2, 2);
+        queue.push(pushed);
+        queue.pushCursorPos(1, 3, 3);
+
+        assertEquals(1, ((SystemScrollEvent) queue.poll()).yoffset, 0);
+        assertCursorPos(queue.poll(), 1, 1, 1);
+        assertEquals(2, ((SystemScrollEvent) queue.poll()).yoffset, 0);
+        assertEquals(65, ((SystemKeyEvent) queue.poll()).key);
+        assertEquals(3, ((SystemScrollEvent) queue.poll()).yoffset, 0);
+        assertCursorPos(queue.poll(), 1, 2, 2);
+        // events pushed by reference are returned as they are and don't absorb the following events
+        assertSame(pushed, queue.poll());
+        assertEquals(1, queue.getPolledCount());
+        assertCursorPos(queue.poll(), 1, 3, 3);
+        assertEquals(0, queue.getCoalescedCount());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void overflowEventsAreNotMerged() {
+        SystemEventQueue queue = new SystemEventQueue(2);
+        queue.setCoalescing(true);
+        for (int i = 1; i <= 5; i++) {
+            queue.pushScroll(1, 0, i);
+        }
+
+        // the two buffered events are merged, the overflown ones are returned one by one
+        assertEquals(3, ((SystemScrollEvent) queue.poll()).yoffset, 0);
+        assertEquals(2, queue.getPolledCount());
+        for (int i = 3; i <= 5; i++) {
+            assertEquals(i, ((SystemScrollEvent) queue.poll()).yoffset, 0);
+            assertEquals(1, queue.getPolledCount());
+        }
+        assertEquals(1, queue.getCoalescedCount());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void eventsAreNotMergedWithoutCoalescing() {
+        SystemEventQueue queue = new SystemEventQueue(16);
+        assertFalse(queue.isCoalescing());
+        queue.pushCursorPos(1, 1, 1);
+        queue.pushCursorPos(1, 2, 2);
+
+        assertCursorPos(queue.poll(), 1, 1, 1);
+        assertEquals(1, queue.getPolledCount());
+        assertCursorPos(queue.poll(), 1, 2, 2);
+        assertEquals(0, queue.getCoalescedCount());
+    }
+
+    @Test
+    public void pushAndPollDoNotAllocate() {
+        assumeTrue(Allocations.isSupported());
+        SystemEventQueue queue = new SystemEventQueue(64);
+        long allocated = Allocations.measure(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                queue.pushCursorPos(1, i, i);
+                queue.pushKey(1, 65, 0, 1, 0);
+                queue.poll();
+                queue.poll();
+            }
+        });
+        assertEquals(0, allocated);
+    }
+
+    private static void assertCursorPos(SystemEvent event, long window, double xpos, double ypos) {
+        SystemCursorPosEvent cursorPosEvent = (SystemCursorPosEvent) event;
+        assertEquals(window, cursorPosEvent.window);
+        assertEquals(xpos, cursorPosEvent.xpos, 0);
+        assertEquals(ypos, cursorPosEvent.ypos, 0);
+    }
+}
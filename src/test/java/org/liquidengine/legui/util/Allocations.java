@@ -0,0 +1,45 @@
+package org.liquidengine.legui.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Counts bytes allocated by the current thread. Relies on HotSpot {@code com.sun.management.ThreadMXBean}, tests should be skipped if it is not
+ * supported.
+ */
+public final class Allocations {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns true if allocated bytes can be measured on this JVM.
+     *
+     * @return true if allocation counting is supported.
+     */
+    public static boolean isSupported() {
+        return THREADS instanceof com.sun.management.ThreadMXBean
+               && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported()
+               && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Runs action twice and returns number of bytes allocated by the current thread during the second run, so that class loading and lazy initialization
+     * done by the first run are not counted.
+     *
+     * @param action action to measure.
+     * @return allocated bytes.
+     */
+    public static long measure(Runnable action) {
+        action.run();
+        long before = allocatedBytes();
+        action.run();
+        return allocatedBytes() - before;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}